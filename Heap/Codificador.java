@@ -0,0 +1,73 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * <p>Interfaz para convertir elementos a bytes y de regreso, que usan las estructuras que
+ * guardan elementos en disco, como {@link ColaPrioridadExterna}.</p>
+ * @param <T> Tipo genérico de los elementos que codifica.
+ */
+public interface Codificador<T> {
+
+    /**
+     * Codificador para enteros de 4 bytes.
+     */
+    public static final Codificador<Integer> ENTEROS = new Codificador<Integer>() {
+        @Override
+        public void escribir(Integer elemento, DataOutput salida) throws IOException {
+            salida.writeInt(elemento);
+        }
+
+        @Override
+        public Integer leer(DataInput entrada) throws IOException {
+            return entrada.readInt();
+        }
+    };
+
+    /**
+     * Codificador para enteros de 8 bytes.
+     */
+    public static final Codificador<Long> LARGOS = new Codificador<Long>() {
+        @Override
+        public void escribir(Long elemento, DataOutput salida) throws IOException {
+            salida.writeLong(elemento);
+        }
+
+        @Override
+        public Long leer(DataInput entrada) throws IOException {
+            return entrada.readLong();
+        }
+    };
+
+    /**
+     * Codificador para cadenas en UTF-8 modificado.
+     */
+    public static final Codificador<String> CADENAS = new Codificador<String>() {
+        @Override
+        public void escribir(String elemento, DataOutput salida) throws IOException {
+            salida.writeUTF(elemento);
+        }
+
+        @Override
+        public String leer(DataInput entrada) throws IOException {
+            return entrada.readUTF();
+        }
+    };
+
+    /**
+     * Escribe un elemento en la salida.
+     * @param elemento el elemento a escribir.
+     * @param salida donde se escribe.
+     * @throws IOException si falla la escritura.
+     */
+    public void escribir(T elemento, DataOutput salida) throws IOException;
+
+    /**
+     * Lee un elemento de la entrada.
+     * @param entrada de donde se lee.
+     * @return el elemento leído.
+     * @throws IOException si falla la lectura.
+     */
+    public T leer(DataInput entrada) throws IOException;
+
+}
@@ -0,0 +1,536 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * <p>Cola de prioridad mínima que puede guardar más elementos de los que caben en memoria.
+ * Mantiene al frente un {@link MinHeap} con a lo más <code>presupuesto</code> elementos;
+ * cuando se llena, lo vacía en orden a un archivo (una corrida ordenada) en el directorio
+ * temporal elegido.</p>
+ *
+ * <p><code>eliminarTope</code> compara el tope del montículo en memoria con el menor de los
+ * primeros elementos de las corridas, que se guardan en otro {@link MinHeap}. Cuando hay
+ * <code>maximoCorridas</code> corridas abiertas se mezclan por niveles: las que salen de
+ * memoria son de nivel 0, y se mezclan todas las corridas del nivel más bajo que tenga al
+ * menos dos, dando una de un nivel más. Una corrida de nivel k junta al menos 2^k
+ * corridas de memoria, así que mientras haya menos niveles que
+ * <code>maximoCorridas</code> cada elemento se vuelve a escribir O(log(n / presupuesto))
+ * veces, en lugar de una vez por mezcla. Los archivos se leen y escriben con los flujos de
+ * <code>java.nio.file.Files</code>, con un búfer de tamaño configurable por corrida, y se
+ * borran al agotarse o al cerrar la cola.</p>
+ *
+ * <p>Si falla una escritura, la cola queda como estaba antes de intentarla: los elementos
+ * en memoria y las corridas sólo se sueltan cuando su copia ya está completa en disco.</p>
+ * @param <T>
+ */
+public class ColaPrioridadExterna<T extends Comparable<T>> implements AutoCloseable {
+
+    /**
+     * Clase interna para leer una corrida ordenada de un archivo, con un elemento de
+     * adelanto. Se compara por ese elemento.
+     */
+    private class Corrida implements Comparable<Corrida> {
+
+        private final Path archivo;
+        private final DataInputStream entrada;
+        /* Si la corrida borra el archivo al agotarse o cerrarse. */
+        private final boolean propia;
+        /* Cuántas veces se han mezclado los elementos de la corrida. */
+        private int nivel;
+        /* Bytes del archivo que ya se decodificaron. */
+        private long posicion;
+        private int restantes;
+        private T actual;
+
+        /* Abre el archivo a partir del byte desde, donde quedan los elementos dados. */
+        private Corrida(Path archivo, long desde, int elementos, boolean propia) throws IOException {
+            this.archivo = archivo;
+            this.propia = propia;
+            this.posicion = desde;
+            this.restantes = elementos;
+            SeekableByteChannel canal = Files.newByteChannel(archivo);
+            canal.position(desde);
+            InputStream bufer = new BufferedInputStream(
+                    new ContadorEntrada(Channels.newInputStream(canal)), tamanioBufer);
+            this.entrada = new DataInputStream(new FilterInputStream(bufer) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b != -1){
+                        posicion += 1;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int inicio, int n) throws IOException {
+                    int leidos = super.read(b, inicio, n);
+                    if (leidos > 0){
+                        posicion += leidos;
+                    }
+                    return leidos;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long saltados = super.skip(n);
+                    posicion += saltados;
+                    return saltados;
+                }
+            });
+        }
+
+        /* Otra corrida que lee lo que le falta a ésta, sin cambiarla ni borrar el archivo. */
+        private Corrida lector() throws IOException {
+            Corrida lector = new Corrida(archivo, posicion, restantes, false);
+            lector.actual = actual;
+            return lector;
+        }
+
+        /* Lee el siguiente elemento; devuelve false y borra el archivo si ya no hay. */
+        private boolean avanza() throws IOException {
+            if (restantes == 0){
+                cierra();
+                return false;
+            }
+            this.actual = codificador.leer(entrada);
+            this.restantes -= 1;
+            return true;
+        }
+
+        private void cierra() throws IOException {
+            entrada.close();
+            if (propia){
+                Files.deleteIfExists(archivo);
+            }
+        }
+
+        @Override
+        public int compareTo(Corrida otra) {
+            return actual.compareTo(otra.actual);
+        }
+    }
+
+    /**
+     * Flujo que cuenta los bytes que lee del archivo.
+     */
+    private class ContadorEntrada extends FilterInputStream {
+
+        private ContadorEntrada(InputStream entrada) {
+            super(entrada);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1){
+                bytesLeidos += 1;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int inicio, int n) throws IOException {
+            int leidos = super.read(b, inicio, n);
+            if (leidos > 0){
+                bytesLeidos += leidos;
+            }
+            return leidos;
+        }
+    }
+
+    /**
+     * Flujo que cuenta los bytes que escribe al archivo.
+     */
+    private class ContadorSalida extends FilterOutputStream {
+
+        private ContadorSalida(OutputStream salida) {
+            super(salida);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytesEscritos += 1;
+        }
+
+        @Override
+        public void write(byte[] b, int inicio, int n) throws IOException {
+            out.write(b, inicio, n);
+            bytesEscritos += n;
+        }
+    }
+
+    /**
+     * Número máximo de corridas abiertas por omisión; al llegar a él se mezclan las del
+     * nivel más bajo.
+     **/
+    public static final int MAXIMO_CORRIDAS = 64;
+    /**
+     * Tamaño por omisión, en bytes, del búfer de cada corrida.
+     **/
+    public static final int TAMANIO_BUFER = 64 * 1024;
+
+    private MinHeap<T> memoria;
+    private final MinHeap<Corrida> corridas;
+    private final int presupuesto;
+    private final Path directorio;
+    private final Codificador<T> codificador;
+    private final int maximoCorridas;
+    private final int tamanioBufer;
+    private int tamanio;
+    private boolean cerrada;
+
+    /* Contadores de entrada y salida. */
+    private long bytesEscritos;
+    private long bytesLeidos;
+    private long elementosEscritos;
+    private int corridasEscritas;
+
+    /**
+     * Constructor que recibe el presupuesto de memoria, el directorio temporal y el
+     * codificador, con los valores por omisión para el número de corridas y el búfer.
+     * @param presupuesto número máximo de elementos en memoria.
+     * @param directorio directorio donde se escriben las corridas.
+     * @param codificador cómo se convierten los elementos a bytes.
+     **/
+    public ColaPrioridadExterna(int presupuesto, Path directorio, Codificador<T> codificador) {
+        this(presupuesto, directorio, codificador, MAXIMO_CORRIDAS, TAMANIO_BUFER);
+    }
+
+    /**
+     * Constructor que recibe todos los parámetros de configuración.
+     * @param presupuesto número máximo de elementos en memoria.
+     * @param directorio directorio donde se escriben las corridas.
+     * @param codificador cómo se convierten los elementos a bytes.
+     * @param maximoCorridas número de corridas abiertas a partir del cual se mezclan las
+     *                       del nivel más bajo.
+     * @param tamanioBufer tamaño en bytes del búfer de cada corrida.
+     * @throws IllegalArgumentException si algún parámetro no es válido.
+     **/
+    public ColaPrioridadExterna(int presupuesto, Path directorio, Codificador<T> codificador,
+                                int maximoCorridas, int tamanioBufer) {
+        if (presupuesto < 1 || maximoCorridas < 2 || tamanioBufer < 1
+                || directorio == null || codificador == null){
+            throw new IllegalArgumentException();
+        }
+        this.presupuesto = presupuesto;
+        this.directorio = directorio;
+        this.codificador = codificador;
+        this.maximoCorridas = maximoCorridas;
+        this.tamanioBufer = tamanioBufer;
+        this.memoria = new MinHeap<>();
+        this.corridas = new MinHeap<>();
+    }
+
+    /**
+     * Agrega un elemento a la cola. Si el montículo en memoria llega al presupuesto, se
+     * escribe completo a disco como una corrida ordenada. Si la escritura falla el elemento
+     * queda agregado en memoria, y la siguiente llamada vuelve a intentarla.
+     * @param elemento el elemento a agregar.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     * @throws UncheckedIOException si falla la escritura de una corrida.
+     */
+    public void agregar(T elemento) throws IllegalArgumentException {
+        revisaAbierta();
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        memoria.agregar(elemento);
+        this.tamanio += 1;
+        if (memoria.getTamanio() >= presupuesto){
+            try {
+                vaciaMemoria();
+                if (corridas.getTamanio() >= maximoCorridas){
+                    mezclaCorridas();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Metodo para eliminar el menor elemento de la cola, ya sea de memoria o de disco.
+     * @return el elemento eliminado.
+     * @throws NoSuchElementException si la cola es vacía.
+     * @throws UncheckedIOException si falla la lectura de una corrida; el elemento sigue
+     *                              en el tope y el tamaño no cambia.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        revisaAbierta();
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        T aux;
+        if (corridas.esVacia() || (!memoria.esVacia()
+                && memoria.obtenerPrioritario().compareTo(corridas.obtenerPrioritario().actual) <= 0)){
+            aux = memoria.eliminarTope();
+        } else {
+            try {
+                aux = avanzaCorrida();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        this.tamanio -= 1;
+        return aux;
+    }
+
+    /**
+     * Metodo para obtener el menor elemento de la cola sin eliminarlo.
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        revisaAbierta();
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        if (corridas.esVacia()){
+            return memoria.obtenerPrioritario();
+        }
+        T enDisco = corridas.obtenerPrioritario().actual;
+        if (memoria.esVacia() || enDisco.compareTo(memoria.obtenerPrioritario()) < 0){
+            return enDisco;
+        }
+        return memoria.obtenerPrioritario();
+    }
+
+    /**
+     * Saca el elemento actual de la corrida del tope y la reacomoda o la elimina.
+     **/
+    private T avanzaCorrida() throws IOException {
+        return avanzaCorrida(corridas);
+    }
+
+    private T avanzaCorrida(MinHeap<Corrida> monticulo) throws IOException {
+        Corrida corrida = monticulo.obtenerPrioritario();
+        T aux = corrida.actual;
+        if (corrida.avanza()){
+            monticulo.reemplazarTope(corrida);
+        } else {
+            monticulo.eliminarTope();
+        }
+        return aux;
+    }
+
+    /**
+     * Escribe todo el montículo en memoria, en orden, a una corrida nueva. El montículo se
+     * recorre sin modificarlo y sólo se vacía cuando la corrida ya está en disco.
+     **/
+    private void vaciaMemoria() throws IOException {
+        Path archivo = Files.createTempFile(directorio, "corrida", ".bin");
+        int n = memoria.getTamanio();
+        try {
+            try (DataOutputStream salida = abreSalida(archivo)) {
+                Iterator<T> it = memoria.iteradorOrdenado();
+                while (it.hasNext()){
+                    codificador.escribir(it.next(), salida);
+                }
+            }
+            abreCorrida(archivo, n, 0);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(archivo);
+            throw e;
+        }
+        this.memoria = new MinHeap<>();
+    }
+
+    /**
+     * Mezcla en una sola todas las corridas del nivel más bajo que tenga al menos dos, dando
+     * una de un nivel más; si todas son de niveles distintos, lo que sólo pasa con
+     * <code>maximoCorridas</code> niveles o más, las dos de nivel más bajo, dando una de un
+     * nivel más que la mayor. Lee de copias de las
+     * corridas, así que si algo falla las originales siguen intactas; sólo se cierran cuando
+     * la corrida mezclada ya está abierta.
+     **/
+    private void mezclaCorridas() throws IOException {
+        TreeMap<Integer, ArrayList<Corrida>> niveles = new TreeMap<>();
+        for (Corrida corrida : corridas){
+            niveles.computeIfAbsent(corrida.nivel, k -> new ArrayList<>()).add(corrida);
+        }
+        ArrayList<Corrida> elegidas = null;
+        int nivel = 0;
+        for (ArrayList<Corrida> mismoNivel : niveles.values()){
+            if (mismoNivel.size() >= 2){
+                elegidas = mismoNivel;
+                nivel = mismoNivel.get(0).nivel + 1;
+                break;
+            }
+        }
+        if (elegidas == null){
+            elegidas = new ArrayList<>();
+            elegidas.add(niveles.pollFirstEntry().getValue().get(0));
+            elegidas.add(niveles.pollFirstEntry().getValue().get(0));
+            nivel = elegidas.get(1).nivel + 1;
+        }
+        MinHeap<Corrida> mezcla = new MinHeap<>();
+        Path archivo = Files.createTempFile(directorio, "corrida", ".bin");
+        int n = 0;
+        try {
+            for (Corrida corrida : elegidas){
+                mezcla.agregar(corrida.lector());
+            }
+            try (DataOutputStream salida = abreSalida(archivo)) {
+                while (!mezcla.esVacia()){
+                    codificador.escribir(avanzaCorrida(mezcla), salida);
+                    n += 1;
+                }
+            }
+            abreCorrida(archivo, n, nivel);
+        } catch (IOException | RuntimeException e) {
+            for (Corrida lector : mezcla){
+                try {
+                    lector.cierra();
+                } catch (IOException suprimida) {
+                    e.addSuppressed(suprimida);
+                }
+            }
+            Files.deleteIfExists(archivo);
+            throw e;
+        }
+        for (Corrida corrida : elegidas){
+            corridas.eliminar(corrida);
+            corrida.cierra();
+        }
+    }
+
+    private DataOutputStream abreSalida(Path archivo) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                new ContadorSalida(Files.newOutputStream(archivo)), tamanioBufer));
+    }
+
+    /**
+     * Abre una corrida recién escrita y la agrega a las corridas abiertas.
+     **/
+    private void abreCorrida(Path archivo, int n, int nivel) throws IOException {
+        Corrida corrida = new Corrida(archivo, 0, n, true);
+        corrida.nivel = nivel;
+        try {
+            if (corrida.avanza()){
+                corridas.agregar(corrida);
+            }
+        } catch (IOException | RuntimeException e) {
+            corrida.entrada.close();
+            throw e;
+        }
+        this.elementosEscritos += n;
+        this.corridasEscritas += 1;
+    }
+
+    private void revisaAbierta() {
+        if (cerrada){
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Nos dice si la cola es vacía.
+     * @return <code>true</code> si no tiene elementos, <code>false</code> en otro caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de elementos en la cola, en memoria y en disco.
+     * @return el número de elementos.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Regresa el número de elementos que están en memoria.
+     * @return el número de elementos en memoria.
+     */
+    public int getTamanioEnMemoria() {
+        return memoria.getTamanio();
+    }
+
+    /**
+     * Regresa el número de corridas abiertas en disco.
+     * @return el número de corridas abiertas.
+     */
+    public int getCorridasAbiertas() {
+        return corridas.getTamanio();
+    }
+
+    /**
+     * Regresa el total de corridas escritas, incluidas las de las mezclas.
+     * @return el número de corridas escritas.
+     */
+    public int getCorridasEscritas() {
+        return corridasEscritas;
+    }
+
+    /**
+     * Regresa el total de elementos escritos a disco, incluidos los de las mezclas.
+     * @return el número de elementos escritos.
+     */
+    public long getElementosEscritos() {
+        return elementosEscritos;
+    }
+
+    /**
+     * Regresa el total de bytes escritos a disco.
+     * @return el número de bytes escritos.
+     */
+    public long getBytesEscritos() {
+        return bytesEscritos;
+    }
+
+    /**
+     * Regresa el total de bytes leídos de disco.
+     * @return el número de bytes leídos.
+     */
+    public long getBytesLeidos() {
+        return bytesLeidos;
+    }
+
+    /**
+     * Cierra y borra todas las corridas. Después de cerrarla la cola ya no puede usarse.
+     * @throws UncheckedIOException si falla el borrado de algún archivo.
+     */
+    @Override
+    public void close() {
+        if (cerrada){
+            return;
+        }
+        this.cerrada = true;
+        IOException error = null;
+        while (!corridas.esVacia()){
+            try {
+                corridas.eliminarTope().cierra();
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+        if (error != null){
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ColaPrioridadExterna[tamanio=" + tamanio + ", enMemoria=" + memoria.getTamanio()
+                + ", corridas=" + corridas.getTamanio() + "]";
+    }
+
+}
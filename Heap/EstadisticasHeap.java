@@ -0,0 +1,109 @@
+/**
+ * <p>Copia inmutable de los contadores de la instrumentación de un {@link Heap}, tomada con
+ * {@link Heap#getEstadisticas()}. Sirve para saber si un montículo pasa su tiempo
+ * comparando, moviendo elementos o haciendo crecer su arreglo.</p>
+ */
+public final class EstadisticasHeap {
+
+    private final long comparaciones;
+    private final long intercambios;
+    private final long rebalanceos;
+    private final long niveles;
+    private final int profundidadMaxima;
+    private final long crecimientos;
+    private final int tamanioMaximo;
+    private final int tamanio;
+
+    EstadisticasHeap(long comparaciones, long intercambios, long rebalanceos, long niveles,
+                     int profundidadMaxima, long crecimientos, int tamanioMaximo, int tamanio) {
+        this.comparaciones = comparaciones;
+        this.intercambios = intercambios;
+        this.rebalanceos = rebalanceos;
+        this.niveles = niveles;
+        this.profundidadMaxima = profundidadMaxima;
+        this.crecimientos = crecimientos;
+        this.tamanioMaximo = tamanioMaximo;
+        this.tamanio = tamanio;
+    }
+
+    /**
+     * Regresa el número de llamadas a <code>comparador</code>.
+     * @return el número de comparaciones.
+     */
+    public long getComparaciones() {
+        return comparaciones;
+    }
+
+    /**
+     * Regresa el número de intercambios de elementos en el arreglo.
+     * @return el número de intercambios.
+     */
+    public long getIntercambios() {
+        return intercambios;
+    }
+
+    /**
+     * Regresa el número de rebalanceos, hacia arriba o hacia abajo.
+     * @return el número de rebalanceos.
+     */
+    public long getRebalanceos() {
+        return rebalanceos;
+    }
+
+    /**
+     * Regresa el total de niveles que recorrieron los rebalanceos.
+     * @return la suma de las profundidades de los rebalanceos.
+     */
+    public long getNiveles() {
+        return niveles;
+    }
+
+    /**
+     * Regresa el número promedio de niveles que recorre un rebalanceo.
+     * @return la profundidad promedio, o 0 si no ha habido rebalanceos.
+     */
+    public double getProfundidadPromedio() {
+        return rebalanceos == 0 ? 0 : (double) niveles / rebalanceos;
+    }
+
+    /**
+     * Regresa el mayor número de niveles que ha recorrido un rebalanceo.
+     * @return la profundidad máxima.
+     */
+    public int getProfundidadMaxima() {
+        return profundidadMaxima;
+    }
+
+    /**
+     * Regresa el número de veces que se creó un arreglo más grande.
+     * @return el número de crecimientos.
+     */
+    public long getCrecimientos() {
+        return crecimientos;
+    }
+
+    /**
+     * Regresa el mayor número de elementos que ha tenido el montículo.
+     * @return el tamaño máximo.
+     */
+    public int getTamanioMaximo() {
+        return tamanioMaximo;
+    }
+
+    /**
+     * Regresa el número de elementos cuando se tomó la copia.
+     * @return el tamaño.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticasHeap[comparaciones=" + comparaciones + ", intercambios=" + intercambios
+                + ", rebalanceos=" + rebalanceos + ", profundidadMaxima=" + profundidadMaxima
+                + ", crecimientos=" + crecimientos + ", tamanioMaximo=" + tamanioMaximo
+                + ", tamanio=" + tamanio + "]";
+    }
+
+}
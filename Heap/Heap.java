@@ -1,5 +1,9 @@
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Clase abstracta para modelar montículos. Las clases concretas pueden ser un montículo mínimo
@@ -17,13 +21,13 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         @Override
         public boolean hasNext() {
 
-            return arreglo[siguiente] != null;
+            return siguiente < tamanio;
         }
 
         @Override
         public T next() {
             siguiente = siguiente + 1;
-            return arreglo[siguiente - 1];
+            return arreglo[posicion(siguiente - 1)];
         }
 
         @Override
@@ -33,6 +37,139 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
 
     }
 
+    /**
+     * Clase interna para recorrer el montículo en orden de prioridad sin modificarlo.
+     * Guarda en un montículo auxiliar de posiciones la frontera de nodos cuyos padres ya
+     * salieron; el siguiente elemento es siempre el prioritario de la frontera, y al salir
+     * entran sus hijos. Obtener los primeros k elementos cuesta O(k log k).
+     */
+    private class IteradorOrdenado implements Iterator<T> {
+
+        private int[] frontera = new int[2 * 2 * 2 * 2];
+        private int enFrontera;
+
+        private IteradorOrdenado() {
+            if (tamanio > 0){
+                mete(0);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return enFrontera > 0;
+        }
+
+        @Override
+        public T next() {
+            return arreglo[siguientePosicion()];
+        }
+
+        /**
+         * Saca de la frontera la posición del siguiente elemento y mete a sus hijos.
+         **/
+        private int siguientePosicion() {
+            if (enFrontera == 0){
+                throw new NoSuchElementException();
+            }
+            int posicion = frontera[0];
+            enFrontera -= 1;
+            if (enFrontera > 0){
+                baja(frontera[enFrontera]);
+            }
+            if (pagina != 0){
+                for (int lado = 0; lado < 2; lado++){
+                    int hijo = hijoEnPagina(posicion, lado);
+                    if (hijo != -1){
+                        mete(hijo);
+                    }
+                }
+            } else {
+                int primero = primerHijo(posicion);
+                for (int hijo = primero; hijo < primero + aridad && hijo < tamanio && hijo > 0; hijo++){
+                    mete(hijo);
+                }
+            }
+            return posicion;
+        }
+
+        private void mete(int posicion) {
+            if (enFrontera == frontera.length){
+                frontera = java.util.Arrays.copyOf(frontera, 2 * enFrontera);
+            }
+            int i = enFrontera;
+            enFrontera += 1;
+            while (i > 0 && compara(arreglo[posicion], arreglo[frontera[(i - 1) / 2]])){
+                frontera[i] = frontera[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            frontera[i] = posicion;
+        }
+
+        private void baja(int posicion) {
+            int i = 0;
+            while (2 * i + 1 < enFrontera){
+                int hijo = 2 * i + 1;
+                if (hijo + 1 < enFrontera && compara(arreglo[frontera[hijo + 1]], arreglo[frontera[hijo]])){
+                    hijo += 1;
+                }
+                if (!compara(arreglo[frontera[hijo]], arreglo[posicion])){
+                    break;
+                }
+                frontera[i] = frontera[hijo];
+                i = hijo;
+            }
+            frontera[i] = posicion;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Tarea para reconstruir en paralelo el subárbol con la raíz dada. Los subárboles de
+     * los hijos no comparten nodos, así que se reconstruyen en tareas separadas y al final
+     * se rebalancea la raíz; los subárboles chicos se reconstruyen en el mismo hilo.
+     */
+    @SuppressWarnings("serial")
+    private class Heapificacion extends RecursiveAction {
+
+        private final int raiz;
+        private final int umbral;
+
+        private Heapificacion(int raiz, int umbral) {
+            this.raiz = raiz;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected void compute() {
+            if (tamanioSubarbol(raiz, umbral) <= umbral){
+                heapificaSubarbol(raiz);
+                return;
+            }
+            ArrayList<Heapificacion> hijos = new ArrayList<>();
+            int primero = primerHijo(raiz);
+            for (int hijo = primero; hijo < primero + aridad && hijo < tamanio; hijo++){
+                hijos.add(new Heapificacion(hijo, umbral));
+            }
+            invokeAll(hijos);
+            rebalanceaHaciaAbajo(raiz);
+        }
+    }
+
+    /**
+     * Contadores de la instrumentación. Sólo existen mientras está activada.
+     */
+    private static class Contadores {
+
+        private long comparaciones, intercambios, crecimientos;
+        private long rebalanceos, niveles;
+        private int profundidadMaxima, tamanioMaximo;
+    }
+
     /**
      * Arreglo donde se almacenarán los elementos del montículo.
      **/
@@ -41,13 +178,42 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
      * Cantidad de elementos almacenados en el montículo.
      **/
     private int tamanio;
+    /**
+     * Posición en el arreglo de cada elemento. Sólo existe si el montículo es indexado;
+     * en ese caso los elementos no pueden repetirse.
+     **/
+    private HashMap<T, Integer> indices;
+    /**
+     * Número de hijos de cada nodo. Con 4 u 8 hijos el árbol es más bajo y los hijos de un
+     * nodo quedan juntos en memoria, lo que conviene en montículos muy grandes.
+     **/
+    private int aridad = 2;
+
+    /**
+     * Número de elementos a partir del cual conviene reconstruir en paralelo.
+     **/
+    public static final int UMBRAL_PARALELO = 1 << 15;
+    /**
+     * Número de posiciones de cada página del arreglo, o 0 si el arreglo se usa en el orden
+     * usual. Ver {@link #Heap(int, boolean, int)}.
+     **/
+    private int pagina;
+    /**
+     * Contadores de operaciones, o <code>null</code> si la instrumentación está desactivada.
+     **/
+    private Contadores contadores;
+
+    /**
+     * Tamaño de página sugerido: 1024 referencias comprimidas ocupan una página de 4 KiB.
+     **/
+    public static final int ELEMENTOS_POR_PAGINA = 1024;
     
     
     /* Truco para crear arreglos genéricos. Es necesario hacerlo así por cómo
        Java implementa sus genéricos; de otra forma obtenemos advertencias del
-       compilador. */
-    @SuppressWarnings("unchecked") private T[] creaArregloGenerico(int n) {
-        return (T[])(new Comparable[n]);
+       compilador. Es estático para que lo usen también los otros montículos. */
+    @SuppressWarnings("unchecked") static <E extends Comparable<E>> E[] creaArregloGenerico(int n) {
+        return (E[])(new Comparable<?>[n]);
     }
 
     /**
@@ -59,15 +225,102 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         this.tamanio = 0;
     }
 
+    /**
+     * Constructor que permite crear un montículo indexado. Un montículo indexado recuerda
+     * la posición de cada elemento, por lo que <code>contiene</code> cuesta O(1) y
+     * <code>eliminar</code> y <code>cambiarPrioridad</code> cuestan O(log n); a cambio
+     * no acepta elementos repetidos.
+     * @param indexado si el montículo debe llevar el índice de posiciones.
+     **/
+    protected Heap(boolean indexado) {
+        this(2, indexado);
+    }
+
+    /**
+     * Constructor que permite elegir el número de hijos de cada nodo.
+     * @param aridad el número de hijos de cada nodo, al menos 2.
+     * @param indexado si el montículo debe llevar el índice de posiciones.
+     * @throws IllegalArgumentException si la aridad es menor que 2.
+     **/
+    protected Heap(int aridad, boolean indexado) {
+        this();
+        if (aridad < 2){
+            throw new IllegalArgumentException();
+        }
+        this.aridad = aridad;
+        if (indexado){
+            this.indices = new HashMap<>();
+        }
+    }
+
+    /**
+     * <p>Constructor que permite acomodar el arreglo por páginas (B-heap). Cada página de
+     * <code>pagina</code> posiciones guarda un subárbol binario completo de
+     * <code>pagina - 1</code> nodos, y los hijos de sus hojas son las raíces de otras
+     * páginas. Así un rebalanceo toca O(log n / log B) páginas del arreglo en lugar de una
+     * por nivel, lo que reduce las fallas de TLB y de página en montículos muy grandes.</p>
+     *
+     * <p>Las páginas se llenan una por una, de modo que el arreglo desperdicia sólo una
+     * posición por página; el árbol puede quedar hasta log B niveles más alto que el
+     * montículo binario usual. Sólo acomoda el arreglo: los elementos a los que apunta
+     * siguen donde los haya puesto la máquina virtual.</p>
+     * @param aridad el número de hijos de cada nodo; si hay páginas debe ser 2.
+     * @param indexado si el montículo debe llevar el índice de posiciones.
+     * @param pagina el número de posiciones por página, una potencia de 2 mayor o igual
+     *               que 4, o 0 para no usar páginas.
+     * @throws IllegalArgumentException si la aridad o la página no son válidas.
+     **/
+    protected Heap(int aridad, boolean indexado, int pagina) {
+        this(aridad, indexado);
+        if (pagina != 0 && (pagina < 4 || Integer.bitCount(pagina) != 1 || aridad != 2)){
+            throw new IllegalArgumentException();
+        }
+        this.pagina = pagina;
+    }
+
     /**
      * Constructor que recibe una estructura iterable como parámetro.
-     * Agrega todos los elementos en el orden en que se recorre la estructura dada.
+     * Copia todos los elementos al arreglo y después construye el montículo de abajo
+     * hacia arriba (algoritmo de Floyd), lo que cuesta O(n) en lugar de O(n log n).
      **/
     public Heap(Iterable<T> it) {
+        copia(it);
+        heapifica();
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable y construye el montículo en paralelo
+     * en el <code>ForkJoinPool</code> común: cada subárbol con más de <code>umbral</code>
+     * elementos reparte los subárboles de sus hijos entre tareas distintas. Si hay menos de
+     * <code>umbral</code> elementos construye en un solo hilo, igual que
+     * {@link #Heap(Iterable)}.
+     * @param it la estructura con los elementos.
+     * @param umbral tamaño de subárbol a partir del cual se divide el trabajo; ver
+     *               {@link #UMBRAL_PARALELO}.
+     * @throws IllegalArgumentException si el umbral es menor que 1.
+     **/
+    protected Heap(Iterable<T> it, int umbral) {
+        if (umbral < 1){
+            throw new IllegalArgumentException();
+        }
+        copia(it);
+        if (tamanio < umbral){
+            heapifica();
+        } else {
+            ForkJoinPool.commonPool().invoke(new Heapificacion(0, umbral));
+        }
+    }
+
+    /**
+     * Copia al arreglo los elementos del iterable, sin acomodarlos.
+     **/
+    private void copia(Iterable<T> it) {
         this.tamanio = 0;
-        this.arreglo = creaArregloGenerico(2 * 2 * 2 * 2 * 2);
+        this.arreglo = creaArregloGenerico(capacidadInicial(it));
         for (T elem : it){
-            agregar(elem);
+            asegurarCapacidad(tamanio + 1);
+            coloca(tamanio, elem);
+            this.tamanio += 1;
         }
     }
     
@@ -81,73 +334,385 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
      */
     abstract protected boolean comparador(T elemento1,T elemento2);
 
+    /**
+     * Método que llama a <code>comparador</code> y, si la instrumentación está activada,
+     * cuenta la comparación.
+     **/
+    private boolean compara(T elemento1, T elemento2) {
+        if (contadores != null){
+            contadores.comparaciones += 1;
+        }
+        return comparador(elemento1, elemento2);
+    }
+
 
     /**
      * Método que nos da la posición del padre del índice dado
      **/
     private int padre(int indiceElemento) {
-        return (indiceElemento - 1)/2;
+        if (pagina == 0){
+            return padre(indiceElemento, aridad);
+        }
+        int local = indiceElemento & (pagina - 1);
+        if (local > 0){
+            return indiceElemento - local + (local - 1)/2;
+        }
+        int bloque = indiceElemento / pagina;
+        if (bloque == 0){
+            return 0;
+        }
+        int hoja = (bloque - 1) % pagina;
+        return ((bloque - 1) / pagina) * pagina + pagina/2 - 1 + hoja/2;
     }
 
     /**
-     * Método que nos da la posición del hijo izquierdo del índice dado
+     * Método que nos da la posición del primer hijo del índice dado; los demás hijos
+     * están en las siguientes <code>aridad - 1</code> posiciones.
      **/
-    private int izquierdo(int indiceElemento) {
-        return (2*indiceElemento) + 1;
+    private int primerHijo(int indiceElemento) {
+        return primerHijo(indiceElemento, aridad);
     }
 
     /**
-     * Método que nos da la posición del hijo derecho del índice dado
+     * Método que nos da la posición del padre del índice dado en un arreglo sin páginas
+     * con la aridad dada.
      **/
-    private int derecho(int indiceElemento) {
-        return (2*indiceElemento) + 2;
+    static int padre(int indiceElemento, int aridad) {
+        return (indiceElemento - 1)/aridad;
     }
 
-    @Override
-    public void agregar(T elemento) {
-        if (tamanio == arreglo.length){
-            T[] arreglo_aux = creaArregloGenerico(2 * tamanio);
-            for (int i = 0; i < arreglo.length; i++){
-                arreglo_aux[i] = arreglo[i];
+    /**
+     * Método que nos da la posición del primer hijo del índice dado en un arreglo sin
+     * páginas con la aridad dada.
+     **/
+    static int primerHijo(int indiceElemento, int aridad) {
+        return (aridad*indiceElemento) + 1;
+    }
+
+    /**
+     * Método que nos da la posición del hijo izquierdo (lado 0) o derecho (lado 1) del
+     * índice dado cuando el arreglo está acomodado por páginas, o -1 si ese hijo no existe.
+     **/
+    private int hijoEnPagina(int indiceElemento, int lado) {
+        int local = indiceElemento & (pagina - 1);
+        long hijo;
+        if (local < pagina/2 - 1){
+            hijo = indiceElemento + local + 1 + lado;
+        } else {
+            long bloque = indiceElemento / pagina;
+            hijo = (bloque * pagina + 1 + 2 * (local - pagina/2 + 1) + lado) * pagina;
+        }
+        if (hijo >= arreglo.length || arreglo[(int) hijo] == null){
+            return -1;
+        }
+        return (int) hijo;
+    }
+
+    /**
+     * Método que nos da la posición en el arreglo del elemento que ocupa el lugar k en el
+     * orden de llenado. Sin páginas es k; con páginas se salta la última posición de cada
+     * página.
+     **/
+    private int posicion(int k) {
+        if (pagina == 0){
+            return k;
+        }
+        return (k / (pagina - 1)) * pagina + k % (pagina - 1);
+    }
+
+    /**
+     * Número de posiciones del arreglo que ocupan n elementos.
+     **/
+    private int posiciones(int n) {
+        return n == 0 ? 0 : posicion(n - 1) + 1;
+    }
+
+    /**
+     * Método que nos da el tamaño con el que conviene crear el arreglo para los elementos
+     * del iterable dado. Si es una colección conocemos su tamaño y reservamos una sola vez.
+     **/
+    private int capacidadInicial(Iterable<T> it) {
+        int capacidad = 2 * 2 * 2 * 2 * 2;
+        if (it instanceof Coleccionable){
+            capacidad = Math.max(capacidad, ((Coleccionable<?>) it).getTamanio());
+        }
+        return capacidad;
+    }
+
+    /**
+     * Método para reservar espacio para exactamente n elementos, de modo que el arreglo no
+     * tenga que crecer mientras el montículo no pase de ese tamaño.
+     * Si el arreglo ya es de al menos ese tamaño no hace nada.
+     * @param n el número de elementos para los que hay que reservar espacio.
+     */
+    public void reservar(int n) {
+        n = posiciones(n);
+        if (n <= arreglo.length){
+            return;
+        }
+        T[] arreglo_aux = creaArregloGenerico(n);
+        for (int i = 0; i < posiciones(tamanio); i++){
+            arreglo_aux[i] = arreglo[i];
+        }
+        this.arreglo = arreglo_aux;
+        if (contadores != null){
+            contadores.crecimientos += 1;
+        }
+    }
+
+    /**
+     * Método que se asegura de que el arreglo tenga espacio para al menos n elementos.
+     * Si no lo tiene, crea uno nuevo duplicando el tamaño hasta que alcance.
+     **/
+    private void asegurarCapacidad(int n) {
+        n = posiciones(n);
+        if (n <= arreglo.length){
+            return;
+        }
+        int capacidad = Math.max(arreglo.length, 1);
+        while (capacidad < n){
+            capacidad = 2 * capacidad;
+        }
+        T[] arreglo_aux = creaArregloGenerico(capacidad);
+        for (int i = 0; i < posiciones(tamanio); i++){
+            arreglo_aux[i] = arreglo[i];
+        }
+        this.arreglo = arreglo_aux;
+        if (contadores != null){
+            contadores.crecimientos += 1;
+        }
+    }
+
+    /**
+     * Método que reconstruye el montículo completo de abajo hacia arriba (algoritmo de Floyd).
+     * Empieza en el último nodo que tiene hijos y rebalancea hacia abajo hasta llegar a la raíz.
+     * Con páginas recorre todos los nodos en el orden inverso al de llenado, que también
+     * visita a los hijos antes que a sus padres.
+     **/
+    private void heapifica() {
+        if (pagina != 0){
+            for (int k = tamanio - 1; k >= 0; k--){
+                rebalanceaHaciaAbajo(posicion(k));
             }
-            this.arreglo = arreglo_aux;
+            return;
+        }
+        for (int i = padre(tamanio - 1); i >= 0 && tamanio > 1; i--){
+            rebalanceaHaciaAbajo(i);
+        }
+    }
+
+    /**
+     * Método que nos da el número de nodos del subárbol con la raíz dada, o un número mayor
+     * que el límite si lo rebasa. Cuenta nivel por nivel, así que cuesta O(log n).
+     **/
+    private long tamanioSubarbol(int raiz, int limite) {
+        long primero = raiz, ultimo = raiz, nodos = 0;
+        while (primero < tamanio && nodos <= limite){
+            nodos += Math.min(ultimo, tamanio - 1) - primero + 1;
+            primero = aridad * primero + 1;
+            ultimo = aridad * ultimo + aridad;
+        }
+        return nodos;
+    }
+
+    /**
+     * Método que reconstruye el subárbol con la raíz dada con el algoritmo de Floyd,
+     * recorriendo sus niveles del más profundo a la raíz.
+     **/
+    private void heapificaSubarbol(int raiz) {
+        long[] primeros = new long[64];
+        long[] ultimos = new long[64];
+        int niveles = 0;
+        long primero = raiz, ultimo = raiz;
+        while (primero < tamanio){
+            primeros[niveles] = primero;
+            ultimos[niveles] = Math.min(ultimo, tamanio - 1);
+            niveles += 1;
+            primero = aridad * primero + 1;
+            ultimo = aridad * ultimo + aridad;
+        }
+        for (int nivel = niveles - 2; nivel >= 0; nivel--){
+            for (long i = ultimos[nivel]; i >= primeros[nivel]; i--){
+                rebalanceaHaciaAbajo((int) i);
+            }
+        }
+    }
+
+    /**
+     * Método para agregar todos los elementos de una estructura iterable.
+     * Si el lote es grande en comparación con el montículo conviene copiar todo al final
+     * del arreglo y reconstruir en O(n + k); si es pequeño se agregan uno por uno en
+     * O(k log(n + k)). Si algún elemento es inválido, los anteriores a él quedan agregados
+     * y se lanza la excepción.
+     * @param it la estructura con los elementos a agregar.
+     * @throws IllegalArgumentException si algún elemento es <code>null</code>, o si el
+     *                                  montículo es indexado y el elemento ya está.
+     */
+    public void agregarTodos(Iterable<T> it) {
+        int inicio = tamanio;
+        try {
+            for (T elem : it){
+                asegurarCapacidad(tamanio + 1);
+                registra(elem, posicion(tamanio));
+                this.tamanio += 1;
+            }
+        } catch (RuntimeException e) {
+            reparaDesde(inicio);
+            throw e;
         }
-        if (tamanio == 0){
-            this.arreglo[0] = elemento;
-            this.tamanio = 1;
+        reparaDesde(inicio);
+    }
+
+    /**
+     * Restaura la propiedad de montículo después de copiar elementos al final del arreglo
+     * a partir de la posición <code>inicio</code>.
+     **/
+    private void reparaDesde(int inicio) {
+        registraTamanio();
+        int k = tamanio - inicio;
+        int niveles = 32 - Integer.numberOfLeadingZeros(tamanio);
+        if (k == 0){
             return;
         }
-        if (tamanio < arreglo.length){
-            this.arreglo[tamanio] = elemento;
-            this.tamanio += 1;
-            rebalanceaHaciaArriba(tamanio - 1);
+        if ((long) k * niveles >= tamanio){
+            heapifica();
+        } else {
+            for (int i = inicio; i < tamanio; i++){
+                rebalanceaHaciaArriba(posicion(i));
+            }
+        }
+    }
+
+    @Override
+    public void agregar(T elemento) {
+        asegurarCapacidad(tamanio + 1);
+        int indice = posicion(tamanio);
+        registra(elemento, indice);
+        this.tamanio += 1;
+        registraTamanio();
+        rebalanceaHaciaArriba(indice);
+    }
+
+    /**
+     * Si la instrumentación está activada, actualiza el tamaño máximo.
+     **/
+    private void registraTamanio() {
+        if (contadores != null && tamanio > contadores.tamanioMaximo){
+            contadores.tamanioMaximo = tamanio;
+        }
+    }
+
+    /**
+     * Si la instrumentación está activada, cuenta un rebalanceo de los niveles dados.
+     **/
+    private void registraRebalanceo(int niveles) {
+        if (contadores != null){
+            contadores.rebalanceos += 1;
+            contadores.niveles += niveles;
+            contadores.profundidadMaxima = Math.max(contadores.profundidadMaxima, niveles);
+        }
+    }
+
+    /**
+     * Método que coloca un elemento nuevo en el índice dado. Si el montículo es indexado
+     * verifica que el elemento no esté repetido.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>, o si el
+     *                                  montículo es indexado y ya contiene al elemento.
+     **/
+    private void registra(T elemento, int indice) {
+        if (elemento == null || (indices != null && indices.containsKey(elemento))){
+            throw new IllegalArgumentException();
+        }
+        coloca(indice, elemento);
+    }
+
+    /**
+     * Método que escribe un elemento en el índice dado, manteniendo el índice de
+     * posiciones si el montículo es indexado.
+     **/
+    private void coloca(int indice, T elemento) {
+        this.arreglo[indice] = elemento;
+        if (indices != null){
+            indices.put(elemento, indice);
         }
     }
     
+    /**
+     * Metodo para reemplazar el elemento que se encuentra en el tope del heap por otro.
+     * Equivale a <code>eliminarTope</code> seguido de <code>agregar</code>, pero con un solo
+     * rebalanceo hacia abajo.
+     * @param elemento el elemento que ocupa el lugar del tope.
+     * @return el elemento que estaba en el tope.
+     * @throws NoSuchElementException si el montículo es vacío.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>, o si el
+     *                                  montículo es indexado y ya lo contiene.
+     */
+    public T reemplazarTope(T elemento) throws NoSuchElementException {
+        T aux = obtenerPrioritario();
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (indices != null && !aux.equals(elemento)){
+            if (indices.containsKey(elemento)){
+                throw new IllegalArgumentException();
+            }
+            indices.remove(aux);
+        }
+        coloca(0, elemento);
+        rebalanceaHaciaAbajo(0);
+        return aux;
+    }
+
     /**
      * Metodo para eliminar el elemento que se encuentra en el tope del heap.
      * El método devuelve el valor eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
      */
     public T eliminarTope() {
-        T aux = arreglo[0];
-        intercambia(0, tamanio - 1);
-        this.arreglo[tamanio -1] = null;
-        this.tamanio -= 1;
-        rebalanceaHaciaAbajo(0);
+        T aux = obtenerPrioritario();
+        eliminaEn(0);
         return aux;
     }
 
+    /**
+     * Método que elimina el elemento en el índice dado: lo intercambia con el último,
+     * lo quita y rebalancea al que quedó en su lugar.
+     **/
+    private void eliminaEn(int indice) {
+        int ultimo = posicion(tamanio - 1);
+        intercambia(indice, ultimo);
+        if (indices != null){
+            indices.remove(arreglo[ultimo]);
+        }
+        this.arreglo[ultimo] = null;
+        this.tamanio -= 1;
+        if (indice != ultimo){
+            rebalanceaHaciaArriba(indice);
+            rebalanceaHaciaAbajo(indice);
+        }
+    }
+
     /**
      * Método para intercambiar dos elementos en los índices i y j.
      * Antes de usarse debemos asegurarnos de que los índices sean válidos.
      **/
     private void intercambia(int i, int j) {
-        if (i >= tamanio || j >= tamanio ){
-            throw new NoSuchElementException();
+        if (contadores != null){
+            contadores.intercambios += 1;
         }
         T aux = arreglo[i];
-        this.arreglo[i] = this.arreglo[j];
-        this.arreglo[j] = aux;
+        coloca(i, arreglo[j]);
+        coloca(j, aux);
+    }
+
+    /**
+     * Método para intercambiar dos elementos en los índices i y j de un arreglo cualquiera,
+     * sin contadores ni índice de posiciones.
+     **/
+    static <E> void intercambia(E[] arreglo, int i, int j) {
+        E aux = arreglo[i];
+        arreglo[i] = arreglo[j];
+        arreglo[j] = aux;
     }
 
     /**
@@ -155,14 +720,17 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
      * @param indiceElemento
      */
     private void rebalanceaHaciaArriba(int indiceElemento) {
+        int niveles = 0;
         while(indiceElemento >= 0){
-            if (comparador(arreglo[indiceElemento], arreglo[padre(indiceElemento)])){
+            if (compara(arreglo[indiceElemento], arreglo[padre(indiceElemento)])){
                 intercambia(indiceElemento, padre(indiceElemento));
                 indiceElemento = padre(indiceElemento);
+                niveles += 1;
             } else {
-                return;
+                break;
             }
         }
+        registraRebalanceo(niveles);
     }
 
     /**
@@ -170,35 +738,47 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
      * @param indiceElemento
      */
     private void rebalanceaHaciaAbajo(int indiceElemento) {
-        while (indiceItercambiable(izquierdo(indiceElemento), derecho(indiceElemento)) != -1){
-            if (!comparador(arreglo[indiceElemento], arreglo[indiceItercambiable(izquierdo(indiceElemento), derecho(indiceElemento))])){
-                indiceElemento = indiceItercambiable(izquierdo(indiceElemento), derecho(indiceElemento));
-                intercambia(indiceElemento, padre(indiceElemento));
+        int hijo = hijoPrioritario(indiceElemento);
+        int niveles = 0;
+        while (hijo != -1){
+            if (!compara(arreglo[indiceElemento], arreglo[hijo])){
+                intercambia(indiceElemento, hijo);
+                indiceElemento = hijo;
+                hijo = hijoPrioritario(indiceElemento);
+                niveles += 1;
             } else {
-                   return;
+                break;
             }
         }
+        registraRebalanceo(niveles);
     }
 
     /**
-     * Método que nos dice cuál es el índice del elemento que tenemos que intercambiar con el padre.
+     * Método que nos dice cuál es el índice del hijo que tenemos que intercambiar con el padre.
      * Se utiliza en rebalanceaHaciaAbajo.
      * Si no hay que hacer intercambios porque ya no hay hijos, debe devolver -1.
      **/
-    private int indiceItercambiable( int i, int j) {
-        if (i >= tamanio && j < tamanio){
-            return j;
-        } else if (i < tamanio && j >= tamanio){
-            return i;
+    private int hijoPrioritario(int indiceElemento) {
+        if (pagina != 0){
+            int izquierdo = hijoEnPagina(indiceElemento, 0);
+            int derecho = hijoEnPagina(indiceElemento, 1);
+            if (derecho != -1 && !compara(arreglo[izquierdo], arreglo[derecho])){
+                return derecho;
+            }
+            return izquierdo;
         }
-        if (i >= tamanio && j >= tamanio){
+        int primero = primerHijo(indiceElemento);
+        if (primero >= tamanio || primero < 0){
             return -1;
         }
-        if (comparador(arreglo[i], arreglo[j])){
-            return i;
-        } else {
-            return j;
+        int ultimo = Math.min(primero + aridad, tamanio);
+        int mejor = primero;
+        for (int i = primero + 1; i < ultimo; i++){
+            if (!compara(arreglo[mejor], arreglo[i])){
+                mejor = i;
+            }
         }
+        return mejor;
     }
 
     /**
@@ -214,19 +794,114 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         }
     }
 
+    /**
+     * Método que nos da el índice en el arreglo de un elemento, o -1 si no está.
+     * En un montículo indexado cuesta O(1); en otro caso recorre el arreglo.
+     **/
+    private int indiceDe(T elemento) {
+        if (indices != null){
+            Integer indice = indices.get(elemento);
+            return indice == null ? -1 : indice;
+        }
+        for (int k = 0; k < tamanio; k++){
+            int i = posicion(k);
+            if (arreglo[i].equals(elemento)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Elimina un elemento del montículo. Si el elemento no está, no hace nada.
+     * Cuesta O(log n) si el montículo es indexado y O(n) en otro caso.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
     @Override
     public void eliminar(T elemento) throws NoSuchElementException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        int indice = indiceDe(elemento);
+        if (indice != -1){
+            eliminaEn(indice);
+        }
+    }
+
+    /**
+     * Método para reemplazar un elemento por otro con distinta prioridad (mayor o menor)
+     * y reacomodarlo en el montículo. Cuesta O(log n) si el montículo es indexado.
+     * @param elemento el elemento que está en el montículo.
+     * @param nuevo el elemento que lo reemplaza.
+     * @throws NoSuchElementException si <code>elemento</code> no está en el montículo.
+     * @throws IllegalArgumentException si <code>nuevo</code> es <code>null</code>, o si el
+     *                                  montículo es indexado y ya contiene a <code>nuevo</code>.
+     */
+    public void cambiarPrioridad(T elemento, T nuevo) throws NoSuchElementException {
+        int indice = indiceDe(elemento);
+        if (indice == -1){
+            throw new NoSuchElementException();
+        }
+        if (nuevo == null){
+            throw new IllegalArgumentException();
+        }
+        if (indices != null && !elemento.equals(nuevo)){
+            if (indices.containsKey(nuevo)){
+                throw new IllegalArgumentException();
+            }
+            indices.remove(elemento);
+        }
+        coloca(indice, nuevo);
+        rebalanceaHaciaArriba(indice);
+        rebalanceaHaciaAbajo(indice);
     }
 
     @Override
     public boolean contiene(T elemento) {
-        for (int i = 0; i < tamanio; i++){
-            if (arreglo[i].equals(elemento)){
-                return true;
-            }
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Activa la instrumentación: a partir de ahora se cuentan comparaciones, intercambios,
+     * rebalanceos y sus niveles, crecimientos del arreglo y el tamaño máximo. Desactivada
+     * sólo cuesta una verificación de <code>null</code> por operación. Si ya estaba
+     * activada, reinicia los contadores.
+     */
+    public void activarInstrumentacion() {
+        this.contadores = new Contadores();
+        contadores.tamanioMaximo = tamanio;
+    }
+
+    /**
+     * Desactiva la instrumentación y descarta los contadores.
+     */
+    public void desactivarInstrumentacion() {
+        this.contadores = null;
+    }
+
+    /**
+     * Nos dice si la instrumentación está activada.
+     * @return <code>true</code> si está activada, <code>false</code> en otro caso.
+     */
+    public boolean instrumentacionActiva() {
+        return contadores != null;
+    }
+
+    /**
+     * Regresa una copia de los contadores de la instrumentación. El montículo no es seguro
+     * para hilos, así que si se llama desde otro hilo (por ejemplo, desde
+     * {@link MonitorHeap}) los valores pueden estar ligeramente atrasados.
+     * @return las estadísticas acumuladas desde que se activó la instrumentación.
+     * @throws IllegalStateException si la instrumentación está desactivada.
+     */
+    public EstadisticasHeap getEstadisticas() {
+        Contadores c = contadores;
+        if (c == null){
+            throw new IllegalStateException();
         }
-        return false;
+        return new EstadisticasHeap(c.comparaciones, c.intercambios, c.rebalanceos, c.niveles,
+                c.profundidadMaxima, c.crecimientos, c.tamanioMaximo, tamanio);
     }
 
     @Override
@@ -244,6 +919,99 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         return new Iterador();
     }
 
+    /**
+     * Regresa un iterador que recorre los elementos en orden de prioridad sin sacarlos del
+     * montículo. Es perezoso: obtener los primeros k elementos cuesta O(k log k), sin
+     * importar el tamaño del montículo. El montículo no debe modificarse mientras se usa.
+     * @return un iterador en orden de prioridad.
+     */
+    public Iterator<T> iteradorOrdenado() {
+        return new IteradorOrdenado();
+    }
+
+    /**
+     * Saca hasta <code>max</code> elementos del montículo, en orden de prioridad, y los
+     * agrega al destino. Los encuentra con {@link #iteradorOrdenado()} en O(k log k); como
+     * los k primeros forman un subárbol que incluye a la raíz, después no hace falta
+     * rebalancear una vez por elemento. Si el lote es de al menos la mitad del montículo,
+     * compacta a los que quedan y reconstruye en O(n). Si es más chico, llena los huecos
+     * que quedaron antes del nuevo final con los últimos elementos y rebalancea hacia
+     * abajo sólo esos huecos, de abajo hacia arriba: hace casi las mismas comparaciones
+     * que llamar k veces a <code>eliminarTope</code>, pero muchos menos intercambios.
+     * @param destino la colección donde se agregan los elementos sacados.
+     * @param max el número máximo de elementos a sacar.
+     * @return el número de elementos sacados.
+     * @throws IllegalArgumentException si <code>max</code> es negativo.
+     */
+    public int drenarA(Coleccionable<T> destino, int max) {
+        if (max < 0){
+            throw new IllegalArgumentException();
+        }
+        int k = Math.min(max, tamanio);
+        T[] lote = creaArregloGenerico(k);
+        int[] huecos = new int[k];
+        IteradorOrdenado it = new IteradorOrdenado();
+        for (int i = 0; i < k; i++){
+            int posicion = it.siguientePosicion();
+            lote[i] = arreglo[posicion];
+            if (indices != null){
+                indices.remove(lote[i]);
+            }
+            this.arreglo[posicion] = null;
+            huecos[i] = posicion;
+        }
+        if (2L * k < tamanio){
+            llenaHuecos(huecos);
+        } else {
+            compacta();
+        }
+        for (T elemento : lote){
+            destino.agregar(elemento);
+        }
+        return k;
+    }
+
+    /**
+     * Método que pasa los últimos elementos a los huecos que dejó drenarA antes del nuevo
+     * final y los rebalancea. Los huecos incluyen a todos sus ancestros, así que al
+     * rebalancear de la posición mayor a la menor los hijos de cada hueco ya son montículos.
+     **/
+    private void llenaHuecos(int[] huecos) {
+        int quedan = tamanio - huecos.length;
+        java.util.Arrays.sort(huecos);
+        int llenos = 0;
+        for (int i = quedan; i < tamanio; i++){
+            T elemento = arreglo[posicion(i)];
+            if (elemento != null){
+                this.arreglo[posicion(i)] = null;
+                coloca(huecos[llenos], elemento);
+                llenos += 1;
+            }
+        }
+        this.tamanio = quedan;
+        for (int i = llenos - 1; i >= 0; i--){
+            rebalanceaHaciaAbajo(huecos[i]);
+        }
+    }
+
+    /**
+     * Método que recorre al principio del arreglo a los elementos que quedaron después de
+     * drenarA y reconstruye el montículo.
+     **/
+    private void compacta() {
+        int quedan = 0;
+        for (int i = 0; i < tamanio; i++){
+            T elemento = arreglo[posicion(i)];
+            if (elemento != null){
+                this.arreglo[posicion(i)] = null;
+                coloca(posicion(quedan), elemento);
+                quedan += 1;
+            }
+        }
+        this.tamanio = quedan;
+        heapifica();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
@@ -256,7 +1024,7 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         }
         int aux = 0;
         for (int i = 0; i < tamanio; i++){
-            if (arreglo[i].compareTo(heap.arreglo[i]) == 0){
+            if (arreglo[posicion(i)].compareTo(heap.arreglo[heap.posicion(i)]) == 0){
                 aux += 1;
             }
         }
@@ -273,9 +1041,9 @@ public abstract class Heap<T extends Comparable<T>> implements Coleccionable<T>
         }
         String s = "[";
         for (int i = 0; i < tamanio - 1; i++) {
-            s += arreglo[i] + ", ";
+            s += arreglo[posicion(i)] + ", ";
         }
-        s += arreglo[tamanio-1] + "]";
+        s += arreglo[posicion(tamanio-1)] + "]";
 
         return s;
     }
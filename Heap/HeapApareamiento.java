@@ -0,0 +1,311 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase abstracta para modelar montículos de apareamiento (pairing heaps). Los
+ * elementos se guardan en nodos enlazados en lugar de un arreglo, así que dos montículos
+ * se pueden fusionar en O(1) sin copiar nada.</p>
+ *
+ * <p><code>agregar</code> y <code>fusionar</code> cuestan O(1), <code>eliminarTope</code>
+ * cuesta O(log n) amortizado y <code>eliminar</code> cuesta O(n) para buscar al elemento
+ * más O(log n) amortizado para sacarlo. Las clases concretas pueden ser un montículo
+ * mínimo o máximo.</p>
+ */
+public abstract class HeapApareamiento<T extends Comparable<T>> implements Coleccionable<T> {
+
+    /**
+     * Clase interna para construir la estructura. Cada nodo apunta a su primer hijo, a su
+     * siguiente hermano y a su anterior, que es el hermano anterior o, si es el primer hijo,
+     * el padre.
+     */
+    private class Nodo {
+
+        private T elemento;
+        private Nodo hijo, hermano, anterior;
+
+        private Nodo(T elemento) {
+            this.elemento = elemento;
+        }
+    }
+
+    /**
+     * Raíz del montículo, que guarda al elemento prioritario.
+     **/
+    private Nodo raiz;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un montículo vacío.
+     **/
+    public HeapApareamiento() {
+        this.raiz = null;
+        this.tamanio = 0;
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable como parámetro.
+     * Agrega todos los elementos en el orden en que se recorre la estructura dada.
+     **/
+    public HeapApareamiento(Iterable<T> it) {
+        this();
+        for (T elem : it){
+            agregar(elem);
+        }
+    }
+
+    /**
+     * Método abstracto que se va a usar para comparar dos elementos del heap.
+     * @param elemento1
+     * @param elemento2
+     * @return true si elemento1 tiene mayor prioridad que elemento2, false en otro caso
+     */
+    abstract protected boolean comparador(T elemento1, T elemento2);
+
+    /**
+     * Une dos árboles: el de menor prioridad pasa a ser el primer hijo del otro.
+     * Los dos nodos deben ser raíces sueltas (sin hermanos ni anterior).
+     **/
+    private Nodo une(Nodo a, Nodo b) {
+        if (a == null){
+            return b;
+        }
+        if (b == null){
+            return a;
+        }
+        if (comparador(b.elemento, a.elemento)){
+            Nodo aux = a;
+            a = b;
+            b = aux;
+        }
+        b.anterior = a;
+        b.hermano = a.hijo;
+        if (a.hijo != null){
+            a.hijo.anterior = b;
+        }
+        a.hijo = b;
+        return a;
+    }
+
+    /**
+     * Junta una lista de hermanos en un solo árbol con el método de dos pasadas: primero
+     * los une por parejas de izquierda a derecha y después une los resultados de derecha
+     * a izquierda.
+     **/
+    private Nodo unePorParejas(Nodo primero) {
+        if (primero == null){
+            return null;
+        }
+        ArrayList<Nodo> parejas = new ArrayList<>();
+        while (primero != null){
+            Nodo a = primero;
+            Nodo b = a.hermano;
+            primero = b == null ? null : b.hermano;
+            a.hermano = null;
+            a.anterior = null;
+            if (b != null){
+                b.hermano = null;
+                b.anterior = null;
+            }
+            parejas.add(une(a, b));
+        }
+        Nodo resultado = parejas.get(parejas.size() - 1);
+        for (int i = parejas.size() - 2; i >= 0; i--){
+            resultado = une(parejas.get(i), resultado);
+        }
+        return resultado;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        this.raiz = une(raiz, new Nodo(elemento));
+        this.tamanio += 1;
+    }
+
+    /**
+     * Método para fusionar otro montículo con éste en O(1). Después de la llamada el otro
+     * montículo queda vacío.
+     * @param otro el montículo cuyos elementos pasan a éste.
+     * @throws IllegalArgumentException si el otro montículo es de otra clase.
+     */
+    public void fusionar(HeapApareamiento<T> otro) throws IllegalArgumentException {
+        if (otro == this){
+            return;
+        }
+        if (otro.getClass() != getClass()){
+            throw new IllegalArgumentException();
+        }
+        this.raiz = une(raiz, otro.raiz);
+        this.tamanio += otro.tamanio;
+        otro.raiz = null;
+        otro.tamanio = 0;
+    }
+
+    /**
+     * Metodo para eliminar el elemento que se encuentra en el tope del heap.
+     * El método devuelve el valor eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        T aux = raiz.elemento;
+        this.raiz = unePorParejas(raiz.hijo);
+        this.tamanio -= 1;
+        return aux;
+    }
+
+    /**
+     * Metodo para obtener el elemento que se encuentra en el tope del heap
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        return raiz.elemento;
+    }
+
+    /**
+     * Busca, recorriendo todo el árbol sin recursión, el nodo de un elemento.
+     **/
+    private Nodo getNodo(T elemento) {
+        ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+        if (raiz != null){
+            pendientes.push(raiz);
+        }
+        while (!pendientes.isEmpty()){
+            Nodo nodo = pendientes.pop();
+            if (nodo.elemento.equals(elemento)){
+                return nodo;
+            }
+            if (nodo.hermano != null){
+                pendientes.push(nodo.hermano);
+            }
+            if (nodo.hijo != null){
+                pendientes.push(nodo.hijo);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elimina un elemento del montículo. Si el elemento no está, no hace nada.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        Nodo nodo = getNodo(elemento);
+        if (nodo == null){
+            return;
+        }
+        if (nodo == raiz){
+            eliminarTope();
+            return;
+        }
+        if (nodo.anterior.hijo == nodo){
+            nodo.anterior.hijo = nodo.hermano;
+        } else {
+            nodo.anterior.hermano = nodo.hermano;
+        }
+        if (nodo.hermano != null){
+            nodo.hermano.anterior = nodo.anterior;
+        }
+        nodo.hermano = null;
+        nodo.anterior = null;
+        this.raiz = une(raiz, unePorParejas(nodo.hijo));
+        this.tamanio -= 1;
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        return getNodo(elemento) != null;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Regresa los elementos en preorden, empezando por la raíz.
+     **/
+    private ArrayList<T> elementos() {
+        ArrayList<T> lista = new ArrayList<>(tamanio);
+        ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+        if (raiz != null){
+            pendientes.push(raiz);
+        }
+        while (!pendientes.isEmpty()){
+            Nodo nodo = pendientes.pop();
+            lista.add(nodo.elemento);
+            if (nodo.hermano != null){
+                pendientes.push(nodo.hermano);
+            }
+            if (nodo.hijo != null){
+                pendientes.push(nodo.hijo);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * Regresa un iterador sobre una copia de los elementos, empezando por el prioritario.
+     * @return el iterador.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(elementos()).iterator();
+    }
+
+    /**
+     * Dos montículos son iguales si son de la misma clase y tienen los mismos elementos,
+     * sin importar la forma de sus árboles.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        HeapApareamiento<T> heap = (HeapApareamiento<T>) o;
+        if (tamanio != heap.tamanio){
+            return false;
+        }
+        ArrayList<T> mios = elementos();
+        ArrayList<T> suyos = heap.elementos();
+        Collections.sort(mios);
+        Collections.sort(suyos);
+        for (int i = 0; i < tamanio; i++){
+            if (mios.get(i).compareTo(suyos.get(i)) != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return elementos().toString();
+    }
+
+}
@@ -0,0 +1,363 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>Montículo binario cuyo orden se elige al construirlo, en lugar de con una subclase que
+ * implemente <code>comparador</code> como en {@link Heap}. El tope es el menor elemento
+ * según el orden; para un montículo máximo basta con invertirlo. La clase es final, así que
+ * la máquina virtual puede resolver las comparaciones sin importar cuántos órdenes
+ * distintos use el programa.</p>
+ *
+ * <p>Hay tres modos: con un <code>Comparator</code>; con el orden natural, que llama
+ * directamente a <code>compareTo</code> y se pide con {@link #ordenNatural()}; y con una función que da una clave
+ * <code>long</code> por elemento. En el último, la clave se calcula una sola vez al agregar
+ * y se guarda en un arreglo paralelo, de modo que los rebalanceos comparan enteros
+ * primitivos sin llamar a ningún método.</p>
+ * @param <T>
+ */
+public final class HeapComparador<T> implements Coleccionable<T> {
+
+    /**
+     * Clase interna para modelar el iterador
+     */
+    private class Iterador implements Iterator<T> {
+
+        private int siguiente;
+
+        @Override
+        public boolean hasNext() {
+            return siguiente < tamanio;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()){
+                throw new NoSuchElementException();
+            }
+            siguiente = siguiente + 1;
+            return elemento(siguiente - 1);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Arreglo donde se almacenarán los elementos del montículo.
+     **/
+    private Object[] arreglo;
+    /**
+     * Claves de los elementos, paralelas al arreglo. Sólo existen en el modo por clave.
+     **/
+    private long[] claves;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+    /**
+     * Orden de los elementos, o <code>null</code> en el orden natural o en el modo por clave.
+     **/
+    private final Comparator<? super T> comparador;
+    /**
+     * Función que da la clave de cada elemento, o <code>null</code> si no es el modo por clave.
+     **/
+    private final ToLongFunction<? super T> clave;
+
+    /**
+     * Constructor para el orden natural de los elementos. Es privado porque no puede
+     * exigir que T sea <code>Comparable</code>; se usa desde {@link #ordenNatural()}.
+     **/
+    private HeapComparador() {
+        this.arreglo = new Object[2 * 2 * 2 * 2 * 2];
+        this.comparador = null;
+        this.clave = null;
+    }
+
+    /**
+     * Crea un montículo con el orden natural de los elementos, que deben ser
+     * <code>Comparable</code> entre sí.
+     * @return un montículo vacío cuyo tope es el menor elemento.
+     **/
+    public static <T extends Comparable<? super T>> HeapComparador<T> ordenNatural() {
+        return new HeapComparador<>();
+    }
+
+    /**
+     * Constructor que recibe el orden de los elementos.
+     * @param comparador el orden; el tope es el menor elemento según él.
+     * @throws IllegalArgumentException si el comparador es <code>null</code>.
+     **/
+    public HeapComparador(Comparator<? super T> comparador) {
+        if (comparador == null){
+            throw new IllegalArgumentException();
+        }
+        this.arreglo = new Object[2 * 2 * 2 * 2 * 2];
+        this.comparador = comparador;
+        this.clave = null;
+    }
+
+    /**
+     * Constructor que recibe la función que da la clave de cada elemento. La clave se
+     * calcula una vez al agregar, así que no debe cambiar mientras el elemento esté en el
+     * montículo.
+     * @param clave la función de clave; el tope es el elemento con la menor clave.
+     * @throws IllegalArgumentException si la función es <code>null</code>.
+     **/
+    public HeapComparador(ToLongFunction<? super T> clave) {
+        if (clave == null){
+            throw new IllegalArgumentException();
+        }
+        this.arreglo = new Object[2 * 2 * 2 * 2 * 2];
+        this.claves = new long[arreglo.length];
+        this.comparador = null;
+        this.clave = clave;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int indice) {
+        return (T) arreglo[indice];
+    }
+
+    /**
+     * Nos dice si el primer elemento va antes que el segundo en el orden de los objetos.
+     **/
+    @SuppressWarnings("unchecked")
+    private boolean antes(Object elemento1, Object elemento2) {
+        if (comparador != null){
+            return comparador.compare((T) elemento1, (T) elemento2) < 0;
+        }
+        return ((Comparable<Object>) elemento1).compareTo(elemento2) < 0;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        /* La clave se calcula antes de crecer, para que si la función falla el montículo
+        quede como estaba. */
+        long k = claves != null ? clave.applyAsLong(elemento) : 0;
+        if (tamanio == arreglo.length){
+            this.arreglo = Arrays.copyOf(arreglo, 2 * tamanio);
+            if (claves != null){
+                this.claves = Arrays.copyOf(claves, 2 * tamanio);
+            }
+        }
+        this.tamanio += 1;
+        if (claves != null){
+            subeClave(tamanio - 1, elemento, k);
+        } else {
+            sube(tamanio - 1, elemento);
+        }
+    }
+
+    /**
+     * Metodo para eliminar el elemento que se encuentra en el tope del heap.
+     * @return el elemento eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        T tope = obtenerPrioritario();
+        eliminaEn(0);
+        return tope;
+    }
+
+    /**
+     * Metodo para obtener el elemento que se encuentra en el tope del heap
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        return elemento(0);
+    }
+
+    /**
+     * Quita el elemento en el índice dado y pone en su lugar al último, reacomodándolo.
+     **/
+    private void eliminaEn(int indice) {
+        this.tamanio -= 1;
+        Object ultimo = arreglo[tamanio];
+        this.arreglo[tamanio] = null;
+        if (indice == tamanio){
+            return;
+        }
+        if (claves != null){
+            long k = claves[tamanio];
+            subeClave(bajaClave(indice, ultimo, k), ultimo, k);
+        } else {
+            sube(baja(indice, ultimo), ultimo);
+        }
+    }
+
+    /**
+     * Sube el hueco en el índice dado hasta encontrar el lugar del elemento.
+     **/
+    private void sube(int indice, Object elemento) {
+        while (indice > 0){
+            int padre = (indice - 1) >>> 1;
+            if (!antes(elemento, arreglo[padre])){
+                break;
+            }
+            arreglo[indice] = arreglo[padre];
+            indice = padre;
+        }
+        arreglo[indice] = elemento;
+    }
+
+    /**
+     * Baja el hueco en el índice dado hasta encontrar el lugar del elemento.
+     * @return el índice donde quedó el elemento.
+     **/
+    private int baja(int indice, Object elemento) {
+        int mitad = tamanio >>> 1;
+        while (indice < mitad){
+            int hijo = 2 * indice + 1;
+            if (hijo + 1 < tamanio && antes(arreglo[hijo + 1], arreglo[hijo])){
+                hijo += 1;
+            }
+            if (!antes(arreglo[hijo], elemento)){
+                break;
+            }
+            arreglo[indice] = arreglo[hijo];
+            indice = hijo;
+        }
+        arreglo[indice] = elemento;
+        return indice;
+    }
+
+    /**
+     * Igual que {@link #sube}, pero comparando las claves primitivas.
+     **/
+    private void subeClave(int indice, Object elemento, long k) {
+        while (indice > 0){
+            int padre = (indice - 1) >>> 1;
+            if (k >= claves[padre]){
+                break;
+            }
+            arreglo[indice] = arreglo[padre];
+            claves[indice] = claves[padre];
+            indice = padre;
+        }
+        arreglo[indice] = elemento;
+        claves[indice] = k;
+    }
+
+    /**
+     * Igual que {@link #baja}, pero comparando las claves primitivas.
+     **/
+    private int bajaClave(int indice, Object elemento, long k) {
+        int mitad = tamanio >>> 1;
+        while (indice < mitad){
+            int hijo = 2 * indice + 1;
+            if (hijo + 1 < tamanio && claves[hijo + 1] < claves[hijo]){
+                hijo += 1;
+            }
+            if (claves[hijo] >= k){
+                break;
+            }
+            arreglo[indice] = arreglo[hijo];
+            claves[indice] = claves[hijo];
+            indice = hijo;
+        }
+        arreglo[indice] = elemento;
+        claves[indice] = k;
+        return indice;
+    }
+
+    /**
+     * Elimina un elemento del montículo. Si el elemento no está, no hace nada. Cuesta O(n)
+     * para buscarlo más O(log n) para sacarlo.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        for (int i = 0; i < tamanio; i++){
+            if (arreglo[i].equals(elemento)){
+                eliminaEn(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        for (int i = 0; i < tamanio; i++){
+            if (arreglo[i].equals(elemento)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HeapComparador<?> heap = (HeapComparador<?>) o;
+        if (tamanio != heap.tamanio){
+            return false;
+        }
+        for (int i = 0; i < tamanio; i++){
+            if (!arreglo[i].equals(heap.arreglo[i])){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals: combina los elementos en el orden del arreglo.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (int i = 0; i < tamanio; i++){
+            codigo = 31 * codigo + arreglo[i].hashCode();
+        }
+        return codigo;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        String s = "[";
+        for (int i = 0; i < tamanio - 1; i++) {
+            s += arreglo[i] + ", ";
+        }
+        s += arreglo[tamanio-1] + "]";
+
+        return s;
+    }
+
+}
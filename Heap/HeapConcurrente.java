@@ -0,0 +1,231 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clase abstracta para modelar colas de prioridad que pueden usarse desde varios hilos a la
+ * vez sin un candado externo. Los elementos se guardan en una lista de saltos sin candados
+ * (<code>ConcurrentSkipListSet</code>), así que <code>agregar</code> y
+ * <code>eliminarTope</code> cuestan O(log n) y no se bloquean entre sí.
+ * Las clases concretas pueden ser mínimas o máximas, igual que con {@link Heap}.
+ */
+public abstract class HeapConcurrente<T extends Comparable<T>> implements Coleccionable<T> {
+
+    /**
+     * Clase interna para guardar cada elemento junto con un número de secuencia, de modo
+     * que dos elementos iguales sean entradas distintas en la lista de saltos.
+     */
+    private static final class Entrada<T> {
+
+        private final T elemento;
+        private final long secuencia;
+
+        private Entrada(T elemento, long secuencia) {
+            this.elemento = elemento;
+            this.secuencia = secuencia;
+        }
+    }
+
+    /**
+     * Clase interna para modelar el iterador. Recorre los elementos en orden de prioridad y
+     * es débilmente consistente: no falla si otros hilos modifican la cola.
+     */
+    private class Iterador implements Iterator<T> {
+
+        private final Iterator<Entrada<T>> entradas = conjunto.iterator();
+
+        @Override
+        public boolean hasNext() {
+            return entradas.hasNext();
+        }
+
+        @Override
+        public T next() {
+            return entradas.next().elemento;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Entradas de la cola ordenadas por prioridad y, en caso de empate, por llegada.
+     **/
+    private final ConcurrentSkipListSet<Entrada<T>> conjunto;
+    /**
+     * Siguiente número de secuencia a asignar.
+     **/
+    private final AtomicLong secuencia = new AtomicLong();
+    /**
+     * Cantidad de elementos almacenados en la cola.
+     **/
+    private final AtomicInteger tamanio = new AtomicInteger();
+
+    /**
+     * Constructor que no recibe parámetros, crea una cola vacía.
+     **/
+    public HeapConcurrente() {
+        this.conjunto = new ConcurrentSkipListSet<>(this::compara);
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable como parámetro.
+     * Agrega todos los elementos en el orden en que se recorre la estructura dada.
+     **/
+    public HeapConcurrente(Iterable<T> it) {
+        this();
+        for (T elem : it){
+            agregar(elem);
+        }
+    }
+
+    /**
+     * Método abstracto que se va a usar para comparar dos elementos de la cola.
+     * @param elemento1
+     * @param elemento2
+     * @return true si elemento1 tiene mayor prioridad que elemento2, false en otro caso
+     */
+    abstract protected boolean comparador(T elemento1, T elemento2);
+
+    /**
+     * Orden total de las entradas: primero por prioridad y después por secuencia. Las
+     * secuencias <code>Long.MIN_VALUE</code> y <code>Long.MAX_VALUE</code> sirven para
+     * buscar la primera o la última entrada de un elemento.
+     **/
+    private int compara(Entrada<T> e1, Entrada<T> e2) {
+        if (comparador(e1.elemento, e2.elemento)){
+            return -1;
+        }
+        if (comparador(e2.elemento, e1.elemento)){
+            return 1;
+        }
+        return Long.compare(e1.secuencia, e2.secuencia);
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        conjunto.add(new Entrada<>(elemento, secuencia.getAndIncrement()));
+        tamanio.incrementAndGet();
+    }
+
+    /**
+     * Metodo para eliminar el elemento que se encuentra en el tope de la cola.
+     * El método devuelve el valor eliminado.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        Entrada<T> tope = conjunto.pollFirst();
+        if (tope == null){
+            throw new NoSuchElementException();
+        }
+        tamanio.decrementAndGet();
+        return tope.elemento;
+    }
+
+    /**
+     * Metodo para obtener el elemento que se encuentra en el tope de la cola.
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        return conjunto.first().elemento;
+    }
+
+    /**
+     * Busca la entrada más antigua de un elemento, o <code>null</code> si no está.
+     **/
+    private Entrada<T> busca(T elemento) {
+        Entrada<T> desde = new Entrada<>(elemento, Long.MIN_VALUE);
+        Entrada<T> hasta = new Entrada<>(elemento, Long.MAX_VALUE);
+        for (Entrada<T> entrada : conjunto.subSet(desde, true, hasta, true)){
+            if (entrada.elemento.equals(elemento)){
+                return entrada;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elimina una aparición de un elemento de la cola. Si el elemento no está, no hace nada.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        Entrada<T> entrada = busca(elemento);
+        while (entrada != null){
+            if (conjunto.remove(entrada)){
+                tamanio.decrementAndGet();
+                return;
+            }
+            entrada = busca(elemento);
+        }
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        return busca(elemento) != null;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return conjunto.isEmpty();
+    }
+
+    /**
+     * Regresa el número de elementos en la cola. Si otros hilos la están modificando el
+     * valor puede estar desfasado por las operaciones en curso.
+     * @return el número de elementos en la cola.
+     */
+    @Override
+    public int getTamanio() {
+        return Math.max(tamanio.get(), 0);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        HeapConcurrente<T> cola = (HeapConcurrente<T>) o;
+        Iterator<T> iterador = this.iterator();
+        Iterator<T> iteraux = cola.iterator();
+        while (iterador.hasNext() && iteraux.hasNext()){
+            if (iterador.next().compareTo(iteraux.next()) != 0){
+                return false;
+            }
+        }
+        return !iterador.hasNext() && !iteraux.hasNext();
+    }
+
+    @Override
+    public String toString() {
+        String s = "[";
+        Iterator<T> iterador = iterator();
+        while (iterador.hasNext()) {
+            s += iterador.next();
+            if (iterador.hasNext()) {
+                s += ", ";
+            }
+        }
+        return s + "]";
+    }
+
+}
@@ -0,0 +1,316 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase abstracta para modelar montículos izquierdistas (leftist heaps). Cada nodo
+ * guarda su rango, la longitud del camino más corto a un hueco, y el rango del hijo
+ * izquierdo nunca es menor que el del derecho. Por eso la espina derecha mide O(log n) y
+ * dos montículos se fusionan recorriendo sólo sus espinas derechas.</p>
+ *
+ * <p><code>agregar</code>, <code>eliminarTope</code> y <code>fusionar</code> cuestan
+ * O(log n) en el peor caso; <code>eliminar</code> cuesta O(n) para buscar al elemento
+ * más O(log n) para sacarlo. Las clases concretas pueden ser un montículo mínimo o
+ * máximo.</p>
+ */
+public abstract class HeapIzquierdista<T extends Comparable<T>> implements Coleccionable<T> {
+
+    /**
+     * Clase interna para construir la estructura.
+     */
+    private class Nodo {
+
+        private T elemento;
+        private Nodo izquierdo, derecho, padre;
+        private int rango;
+
+        private Nodo(T elemento) {
+            this.elemento = elemento;
+            this.rango = 1;
+        }
+    }
+
+    /**
+     * Raíz del montículo, que guarda al elemento prioritario.
+     **/
+    private Nodo raiz;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un montículo vacío.
+     **/
+    public HeapIzquierdista() {
+        this.raiz = null;
+        this.tamanio = 0;
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable como parámetro.
+     * Agrega todos los elementos en el orden en que se recorre la estructura dada.
+     **/
+    public HeapIzquierdista(Iterable<T> it) {
+        this();
+        for (T elem : it){
+            agregar(elem);
+        }
+    }
+
+    /**
+     * Método abstracto que se va a usar para comparar dos elementos del heap.
+     * @param elemento1
+     * @param elemento2
+     * @return true si elemento1 tiene mayor prioridad que elemento2, false en otro caso
+     */
+    abstract protected boolean comparador(T elemento1, T elemento2);
+
+    private int rango(Nodo nodo) {
+        return nodo == null ? 0 : nodo.rango;
+    }
+
+    /**
+     * Pone al hijo de mayor rango a la izquierda y recalcula el rango del nodo.
+     **/
+    private void acomoda(Nodo nodo) {
+        if (rango(nodo.izquierdo) < rango(nodo.derecho)){
+            Nodo aux = nodo.izquierdo;
+            nodo.izquierdo = nodo.derecho;
+            nodo.derecho = aux;
+        }
+        nodo.rango = rango(nodo.derecho) + 1;
+    }
+
+    /**
+     * Fusiona dos árboles bajando por sus espinas derechas, que miden O(log n).
+     **/
+    private Nodo une(Nodo a, Nodo b) {
+        if (a == null){
+            return b;
+        }
+        if (b == null){
+            return a;
+        }
+        if (comparador(b.elemento, a.elemento)){
+            Nodo aux = a;
+            a = b;
+            b = aux;
+        }
+        a.derecho = une(a.derecho, b);
+        a.derecho.padre = a;
+        acomoda(a);
+        return a;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        this.raiz = une(raiz, new Nodo(elemento));
+        this.raiz.padre = null;
+        this.tamanio += 1;
+    }
+
+    /**
+     * Método para fusionar otro montículo con éste en O(log n). Después de la llamada el
+     * otro montículo queda vacío.
+     * @param otro el montículo cuyos elementos pasan a éste.
+     * @throws IllegalArgumentException si el otro montículo es de otra clase.
+     */
+    public void fusionar(HeapIzquierdista<T> otro) throws IllegalArgumentException {
+        if (otro == this){
+            return;
+        }
+        if (otro.getClass() != getClass()){
+            throw new IllegalArgumentException();
+        }
+        this.raiz = une(raiz, otro.raiz);
+        if (raiz != null){
+            this.raiz.padre = null;
+        }
+        this.tamanio += otro.tamanio;
+        otro.raiz = null;
+        otro.tamanio = 0;
+    }
+
+    /**
+     * Metodo para eliminar el elemento que se encuentra en el tope del heap.
+     * El método devuelve el valor eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        T aux = raiz.elemento;
+        eliminaNodo(raiz);
+        return aux;
+    }
+
+    /**
+     * Metodo para obtener el elemento que se encuentra en el tope del heap
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        return raiz.elemento;
+    }
+
+    /**
+     * Quita un nodo poniendo en su lugar la fusión de sus hijos, y después sube por los
+     * ancestros corrigiendo rangos hasta que alguno no cambie.
+     **/
+    private void eliminaNodo(Nodo nodo) {
+        if (nodo.izquierdo != null){
+            nodo.izquierdo.padre = null;
+        }
+        if (nodo.derecho != null){
+            nodo.derecho.padre = null;
+        }
+        Nodo reemplazo = une(nodo.izquierdo, nodo.derecho);
+        Nodo padre = nodo.padre;
+        if (reemplazo != null){
+            reemplazo.padre = padre;
+        }
+        if (padre == null){
+            this.raiz = reemplazo;
+        } else if (padre.izquierdo == nodo){
+            padre.izquierdo = reemplazo;
+        } else {
+            padre.derecho = reemplazo;
+        }
+        while (padre != null){
+            int anterior = padre.rango;
+            acomoda(padre);
+            if (padre.rango == anterior){
+                break;
+            }
+            padre = padre.padre;
+        }
+        this.tamanio -= 1;
+    }
+
+    /**
+     * Busca, recorriendo todo el árbol sin recursión, el nodo de un elemento.
+     **/
+    private Nodo getNodo(T elemento) {
+        ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+        if (raiz != null){
+            pendientes.push(raiz);
+        }
+        while (!pendientes.isEmpty()){
+            Nodo nodo = pendientes.pop();
+            if (nodo.elemento.equals(elemento)){
+                return nodo;
+            }
+            if (nodo.derecho != null){
+                pendientes.push(nodo.derecho);
+            }
+            if (nodo.izquierdo != null){
+                pendientes.push(nodo.izquierdo);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elimina un elemento del montículo. Si el elemento no está, no hace nada.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        Nodo nodo = getNodo(elemento);
+        if (nodo != null){
+            eliminaNodo(nodo);
+        }
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        return getNodo(elemento) != null;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Regresa los elementos en preorden, empezando por la raíz.
+     **/
+    private ArrayList<T> elementos() {
+        ArrayList<T> lista = new ArrayList<>(tamanio);
+        ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+        if (raiz != null){
+            pendientes.push(raiz);
+        }
+        while (!pendientes.isEmpty()){
+            Nodo nodo = pendientes.pop();
+            lista.add(nodo.elemento);
+            if (nodo.derecho != null){
+                pendientes.push(nodo.derecho);
+            }
+            if (nodo.izquierdo != null){
+                pendientes.push(nodo.izquierdo);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * Regresa un iterador sobre una copia de los elementos, empezando por el prioritario.
+     * @return el iterador.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(elementos()).iterator();
+    }
+
+    /**
+     * Dos montículos son iguales si son de la misma clase y tienen los mismos elementos,
+     * sin importar la forma de sus árboles.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        HeapIzquierdista<T> heap = (HeapIzquierdista<T>) o;
+        if (tamanio != heap.tamanio){
+            return false;
+        }
+        ArrayList<T> mios = elementos();
+        ArrayList<T> suyos = heap.elementos();
+        Collections.sort(mios);
+        Collections.sort(suyos);
+        for (int i = 0; i < tamanio; i++){
+            if (mios.get(i).compareTo(suyos.get(i)) != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return elementos().toString();
+    }
+
+}
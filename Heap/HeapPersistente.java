@@ -0,0 +1,303 @@
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * <p>Clase abstracta para modelar montículos persistentes (inmutables). Es un montículo
+ * izquierdista como {@link HeapIzquierdista}, pero sus nodos nunca cambian:
+ * <code>agregar</code>, <code>eliminarTope</code> y <code>fusionar</code> no modifican al
+ * montículo, sino que regresan una versión nueva que comparte con la anterior todos los
+ * nodos fuera de la espina derecha. Cada operación cuesta O(log n) en tiempo y en nodos
+ * nuevos, y guardar una versión cuesta O(1): basta con conservar la referencia.</p>
+ *
+ * <p>Como ninguna versión cambia, varios hilos pueden leer o recorrer la misma versión sin
+ * candados, siempre que se la pasen de forma segura (por ejemplo, por una variable
+ * <code>volatile</code> o una colección concurrente). Las clases concretas pueden ser un
+ * montículo mínimo o máximo.</p>
+ */
+public abstract class HeapPersistente<T extends Comparable<T>> implements Iterable<T> {
+
+    /**
+     * Clase interna para construir la estructura. Sus campos no cambian después de crearla,
+     * y no guarda referencia al montículo que la creó, así que las versiones viejas que ya
+     * nadie usa pueden recolectarse aunque compartan nodos con las nuevas.
+     */
+    private static final class Nodo<T> {
+
+        private final T elemento;
+        private final Nodo<T> izquierdo, derecho;
+        private final int rango;
+
+        private Nodo(T elemento, Nodo<T> izquierdo, Nodo<T> derecho) {
+            this.elemento = elemento;
+            if (rango(izquierdo) < rango(derecho)){
+                this.izquierdo = derecho;
+                this.derecho = izquierdo;
+            } else {
+                this.izquierdo = izquierdo;
+                this.derecho = derecho;
+            }
+            this.rango = rango(this.derecho) + 1;
+        }
+    }
+
+    /**
+     * Raíz y tamaño de una versión nueva, que las clases concretas reciben en
+     * {@link #version(Version)} y pasan sin abrir a su constructor.
+     */
+    protected static final class Version<T> {
+
+        private final Nodo<T> raiz;
+        private final int tamanio;
+
+        private Version(Nodo<T> raiz, int tamanio) {
+            this.raiz = raiz;
+            this.tamanio = tamanio;
+        }
+    }
+
+    /**
+     * Raíz de esta versión del montículo.
+     **/
+    private final Nodo<T> raiz;
+    /**
+     * Cantidad de elementos en esta versión del montículo.
+     **/
+    private final int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un montículo vacío.
+     **/
+    public HeapPersistente() {
+        this.raiz = null;
+        this.tamanio = 0;
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable como parámetro. Fusiona los elementos
+     * por parejas, como en una cola, lo que cuesta O(n) en lugar de O(n log n).
+     * @throws IllegalArgumentException si algún elemento es <code>null</code>.
+     **/
+    public HeapPersistente(Iterable<T> it) {
+        ArrayDeque<Nodo<T>> cola = new ArrayDeque<>();
+        for (T elem : it){
+            if (elem == null){
+                throw new IllegalArgumentException();
+            }
+            cola.add(new Nodo<>(elem, null, null));
+        }
+        this.tamanio = cola.size();
+        while (cola.size() > 1){
+            cola.add(fusiona(cola.poll(), cola.poll()));
+        }
+        this.raiz = cola.poll();
+    }
+
+    /**
+     * Constructor para las versiones nuevas: las clases concretas lo llaman desde
+     * {@link #version(Version)}.
+     * @param version la raíz y el tamaño de la versión.
+     **/
+    protected HeapPersistente(Version<T> version) {
+        this.raiz = version.raiz;
+        this.tamanio = version.tamanio;
+    }
+
+    /**
+     * Método abstracto que se va a usar para comparar dos elementos del heap.
+     * @param elemento1
+     * @param elemento2
+     * @return true si elemento1 tiene mayor prioridad que elemento2, false en otro caso
+     */
+    abstract protected boolean comparador(T elemento1, T elemento2);
+
+    /**
+     * Método abstracto que crea una versión del mismo tipo concreto que ésta, normalmente
+     * con <code>new</code> y el constructor que recibe la versión.
+     * @param version la raíz y el tamaño de la versión.
+     * @return la versión nueva.
+     */
+    abstract protected HeapPersistente<T> version(Version<T> version);
+
+    private static int rango(Nodo<?> nodo) {
+        return nodo == null ? 0 : nodo.rango;
+    }
+
+    /**
+     * Crea una versión del montículo del mismo tipo concreto que ésta, con la raíz y el
+     * tamaño dados.
+     **/
+    private HeapPersistente<T> version(Nodo<T> raiz, int tamanio) {
+        return version(new Version<>(raiz, tamanio));
+    }
+
+    /**
+     * Fusiona dos árboles copiando sólo los nodos de sus espinas derechas.
+     **/
+    private Nodo<T> fusiona(Nodo<T> a, Nodo<T> b) {
+        if (a == null){
+            return b;
+        }
+        if (b == null){
+            return a;
+        }
+        if (comparador(b.elemento, a.elemento)){
+            Nodo<T> aux = a;
+            a = b;
+            b = aux;
+        }
+        return new Nodo<>(a.elemento, a.izquierdo, fusiona(a.derecho, b));
+    }
+
+    /**
+     * Regresa una versión con el elemento agregado. Este montículo no cambia.
+     * @param elemento el elemento a agregar.
+     * @return la versión nueva.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public HeapPersistente<T> agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        return version(fusiona(raiz, new Nodo<>(elemento, null, null)), tamanio + 1);
+    }
+
+    /**
+     * Regresa una versión con los elementos de los dos montículos. Ninguno de los dos cambia.
+     * @param otro el montículo con el que se fusiona.
+     * @return la versión nueva.
+     * @throws IllegalArgumentException si el otro montículo es <code>null</code> o no es de
+     *                                  la misma clase.
+     */
+    public HeapPersistente<T> fusionar(HeapPersistente<T> otro) throws IllegalArgumentException {
+        if (otro == null || otro.getClass() != getClass()){
+            throw new IllegalArgumentException();
+        }
+        return version(fusiona(raiz, otro.raiz), tamanio + otro.tamanio);
+    }
+
+    /**
+     * Regresa una versión sin el elemento del tope. Este montículo no cambia.
+     * @return la versión nueva.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public HeapPersistente<T> eliminarTope() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        return version(fusiona(raiz.izquierdo, raiz.derecho), tamanio - 1);
+    }
+
+    /**
+     * Metodo para obtener el elemento que se encuentra en el tope del heap
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        if (raiz == null){
+            throw new NoSuchElementException();
+        }
+        return raiz.elemento;
+    }
+
+    /**
+     * Nos dice si un elemento está en el montículo. Cuesta O(n).
+     * @param elemento el elemento a buscar.
+     * @return <code>true</code> si el elemento está, <code>false</code> en otro caso.
+     */
+    public boolean contiene(T elemento) {
+        for (T elem : this){
+            if (elem.equals(elemento)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Nos dice si el montículo es vacío.
+     * @return <code>true</code> si no tiene elementos, <code>false</code> en otro caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de elementos en el montículo.
+     * @return el número de elementos en el montículo.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Regresa un iterador que recorre esta versión en orden de prioridad, guardando la
+     * frontera de nodos por visitar en una cola de prioridad. Obtener los primeros k
+     * elementos cuesta O(k log k), y otras versiones pueden crearse mientras se recorre.
+     * @return un iterador en orden de prioridad.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        PriorityQueue<Nodo<T>> frontera = new PriorityQueue<>((a, b) ->
+                comparador(a.elemento, b.elemento) ? -1 : comparador(b.elemento, a.elemento) ? 1 : 0);
+        if (raiz != null){
+            frontera.add(raiz);
+        }
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !frontera.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                Nodo<T> nodo = frontera.poll();
+                if (nodo == null){
+                    throw new NoSuchElementException();
+                }
+                if (nodo.izquierdo != null){
+                    frontera.add(nodo.izquierdo);
+                }
+                if (nodo.derecho != null){
+                    frontera.add(nodo.derecho);
+                }
+                return nodo.elemento;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        HeapPersistente<T> heap = (HeapPersistente<T>) o;
+        if (tamanio != heap.tamanio){
+            return false;
+        }
+        Iterator<T> it = heap.iterator();
+        for (T elem : this){
+            if (elem.compareTo(it.next()) != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        String s = "[";
+        Iterator<T> it = iterator();
+        while (it.hasNext()) {
+            s += it.next();
+            s += it.hasNext() ? ", " : "]";
+        }
+        return s;
+    }
+
+}
@@ -0,0 +1,201 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Clase abstracta para modelar montículos de claves <code>long</code> guardadas en un
+ * arreglo primitivo, sin envolverlas en objetos. Opcionalmente cada clave puede llevar
+ * una carga de tipo <code>int</code> (por ejemplo, el índice de una tarea).
+ * Las clases concretas pueden ser un montículo mínimo o máximo.
+ */
+public abstract class LongHeap {
+
+    /**
+     * Arreglo donde se almacenarán las claves del montículo.
+     **/
+    private long[] claves;
+    /**
+     * Arreglo paralelo a las claves con las cargas; se crea hasta que se agrega la primera.
+     **/
+    private int[] cargas;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un arreglo de un tamaño arbitrario.
+     **/
+    public LongHeap() {
+        this(2 * 2 * 2 * 2 * 2);
+    }
+
+    /**
+     * Constructor que recibe la capacidad inicial del arreglo.
+     * @param capacidad número de elementos que caben antes de tener que crecer.
+     **/
+    public LongHeap(int capacidad) {
+        if (capacidad < 1){
+            throw new IllegalArgumentException();
+        }
+        this.claves = new long[capacidad];
+        this.tamanio = 0;
+    }
+
+    /**
+     * Método abstracto que se va a usar para comparar dos claves del heap.
+     * @param clave1
+     * @param clave2
+     * @return true si clave1 tiene mayor prioridad que clave2, false en otro caso
+     */
+    abstract protected boolean comparador(long clave1, long clave2);
+
+    /**
+     * Método para agregar una clave sin carga.
+     * @param clave la clave a agregar.
+     */
+    public void agregar(long clave) {
+        agregar(clave, 0);
+    }
+
+    /**
+     * Método para agregar una clave con su carga.
+     * @param clave la clave a agregar.
+     * @param carga el valor que acompaña a la clave.
+     */
+    public void agregar(long clave, int carga) {
+        if (tamanio == claves.length){
+            this.claves = java.util.Arrays.copyOf(claves, 2 * tamanio);
+            if (cargas != null){
+                this.cargas = java.util.Arrays.copyOf(cargas, 2 * tamanio);
+            }
+        }
+        if (cargas == null && carga != 0){
+            this.cargas = new int[claves.length];
+        }
+        this.tamanio += 1;
+        rebalanceaHaciaArriba(tamanio - 1, clave, carga);
+    }
+
+    /**
+     * Metodo para eliminar la clave que se encuentra en el tope del heap.
+     * @return la clave eliminada.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long eliminarTope() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        long tope = claves[0];
+        this.tamanio -= 1;
+        if (tamanio > 0){
+            rebalanceaHaciaAbajo(0, claves[tamanio], cargas == null ? 0 : cargas[tamanio]);
+        }
+        return tope;
+    }
+
+    /**
+     * Metodo para obtener la clave que se encuentra en el tope del heap.
+     * @return la clave prioritaria.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long obtenerPrioritario() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        return claves[0];
+    }
+
+    /**
+     * Metodo para obtener la carga de la clave que se encuentra en el tope del heap.
+     * Si nunca se agregó una carga devuelve 0.
+     * @return la carga de la clave prioritaria.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public int obtenerCargaPrioritaria() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        return cargas == null ? 0 : cargas[0];
+    }
+
+    /**
+     * Sube el hueco en el índice dado hasta encontrar el lugar de la clave, recorriendo
+     * a los padres hacia abajo en lugar de intercambiarlos.
+     **/
+    private void rebalanceaHaciaArriba(int indice, long clave, int carga) {
+        while (indice > 0){
+            int padre = (indice - 1) >>> 1;
+            if (!comparador(clave, claves[padre])){
+                break;
+            }
+            mueve(padre, indice);
+            indice = padre;
+        }
+        coloca(indice, clave, carga);
+    }
+
+    /**
+     * Baja el hueco en el índice dado hasta encontrar el lugar de la clave, subiendo
+     * al hijo prioritario en cada nivel.
+     **/
+    private void rebalanceaHaciaAbajo(int indice, long clave, int carga) {
+        int mitad = tamanio >>> 1;
+        while (indice < mitad){
+            int hijo = 2 * indice + 1;
+            int derecho = hijo + 1;
+            if (derecho < tamanio && comparador(claves[derecho], claves[hijo])){
+                hijo = derecho;
+            }
+            if (!comparador(claves[hijo], clave)){
+                break;
+            }
+            mueve(hijo, indice);
+            indice = hijo;
+        }
+        coloca(indice, clave, carga);
+    }
+
+    private void mueve(int origen, int destino) {
+        claves[destino] = claves[origen];
+        if (cargas != null){
+            cargas[destino] = cargas[origen];
+        }
+    }
+
+    private void coloca(int indice, long clave, int carga) {
+        claves[indice] = clave;
+        if (cargas != null){
+            cargas[indice] = carga;
+        }
+    }
+
+    /**
+     * Nos dice si el montículo es vacío.
+     * @return <code>true</code> si no tiene elementos, <code>false</code> en otro caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de elementos en el montículo.
+     * @return el número de elementos en el montículo.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        String s = "[";
+        for (int i = 0; i < tamanio - 1; i++) {
+            s += claves[i] + ", ";
+        }
+        s += claves[tamanio-1] + "]";
+
+        return s;
+    }
+
+}
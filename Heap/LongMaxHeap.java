@@ -0,0 +1,19 @@
+/**
+ * Montículo máximo de claves <code>long</code> sin envolver.
+ */
+public class LongMaxHeap extends LongHeap {
+
+    public LongMaxHeap(){
+        super();
+    }
+
+    public LongMaxHeap(int capacidad){
+        super(capacidad);
+    }
+
+    @Override
+    protected boolean comparador(long clave1, long clave2) {
+        return clave1 > clave2;
+    }
+
+}
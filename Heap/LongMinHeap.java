@@ -0,0 +1,19 @@
+/**
+ * Montículo mínimo de claves <code>long</code> sin envolver.
+ */
+public class LongMinHeap extends LongHeap {
+
+    public LongMinHeap(){
+        super();
+    }
+
+    public LongMinHeap(int capacidad){
+        super(capacidad);
+    }
+
+    @Override
+    protected boolean comparador(long clave1, long clave2) {
+        return clave1 < clave2;
+    }
+
+}
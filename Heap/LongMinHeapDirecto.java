@@ -0,0 +1,319 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Montículo mínimo de registros de ancho fijo <code>(long clave, long carga)</code>
+ * guardados fuera del heap de la máquina virtual, en búferes directos de
+ * <code>java.nio</code>. Como el recolector de basura no ve los registros, puede guardar
+ * cientos de millones sin alargar sus pausas.</p>
+ *
+ * <p>La capacidad es fija y se elige al crearlo. Los registros se reparten en bloques de
+ * {@link #REGISTROS_POR_BLOQUE} registros, porque un solo <code>ByteBuffer</code> no pasa de
+ * 2 GiB. Los rebalanceos leen y escriben directamente en los búferes, moviendo el hueco
+ * igual que {@link LongHeap}.</p>
+ *
+ * <p>Si se crea con un archivo, los bloques se mapean a memoria y el montículo sobrevive a
+ * reinicios: al abrir un archivo existente se recupera su contenido. El tamaño se guarda en
+ * un encabezado al inicio del archivo y {@link #sincronizar()} obliga a escribir todo a
+ * disco.</p>
+ */
+public class LongMinHeapDirecto implements AutoCloseable {
+
+    /**
+     * Número de registros en cada bloque; cada registro ocupa 16 bytes.
+     **/
+    public static final int REGISTROS_POR_BLOQUE = 1 << 23;
+    /* Bytes de cada registro y del encabezado del archivo. */
+    private static final int REGISTRO = 16;
+    private static final int ENCABEZADO = 64;
+    private static final long MAGICO = 0x4c6f6e6748656170L;
+    private static final int BITS_BLOQUE = 23;
+    private static final int MASCARA = REGISTROS_POR_BLOQUE - 1;
+
+    private ByteBuffer[] bloques;
+    private final int capacidad;
+    private int tamanio;
+    /* Sólo existen si el montículo está respaldado por un archivo. */
+    private FileChannel canal;
+    private MappedByteBuffer encabezado;
+
+    /**
+     * Constructor que reserva memoria directa para la capacidad dada.
+     * @param capacidad número máximo de registros.
+     * @throws IllegalArgumentException si la capacidad es menor que 1.
+     **/
+    public LongMinHeapDirecto(int capacidad) {
+        if (capacidad < 1){
+            throw new IllegalArgumentException();
+        }
+        this.capacidad = capacidad;
+        this.bloques = new ByteBuffer[numeroBloques(capacidad)];
+        for (int b = 0; b < bloques.length; b++){
+            bloques[b] = ByteBuffer.allocateDirect(bytesBloque(b)).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Constructor que mapea a memoria el archivo dado. Si el archivo ya tiene un montículo
+     * de la misma capacidad, lo recupera; si no existe, lo crea vacío.
+     * @param archivo el archivo que respalda al montículo.
+     * @param capacidad número máximo de registros.
+     * @throws IllegalArgumentException si la capacidad es menor que 1, si el archivo tiene
+     *                                  un montículo de otra capacidad, o si está truncado o
+     *                                  su encabezado tiene un tamaño fuera de rango.
+     * @throws UncheckedIOException si falla la apertura o el mapeo del archivo.
+     **/
+    public LongMinHeapDirecto(Path archivo, int capacidad) {
+        if (capacidad < 1 || archivo == null){
+            throw new IllegalArgumentException();
+        }
+        this.capacidad = capacidad;
+        this.bloques = new ByteBuffer[numeroBloques(capacidad)];
+        try {
+            this.canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long bytes = canal.size();
+            this.encabezado = canal.map(FileChannel.MapMode.READ_WRITE, 0, ENCABEZADO);
+            encabezado.order(ByteOrder.nativeOrder());
+            if (encabezado.getLong(0) == MAGICO){
+                int guardado = encabezado.getInt(16);
+                if (encabezado.getLong(8) != capacidad || guardado < 0 || guardado > capacidad
+                        || bytes < ENCABEZADO + (long) capacidad * REGISTRO){
+                    throw new IllegalArgumentException();
+                }
+                this.tamanio = guardado;
+            } else {
+                encabezado.putLong(8, capacidad);
+                encabezado.putInt(16, 0);
+                encabezado.putLong(0, MAGICO);
+            }
+            long inicio = ENCABEZADO;
+            for (int b = 0; b < bloques.length; b++){
+                bloques[b] = canal.map(FileChannel.MapMode.READ_WRITE, inicio, bytesBloque(b))
+                        .order(ByteOrder.nativeOrder());
+                inicio += bytesBloque(b);
+            }
+        } catch (IOException e) {
+            cierraCanal(e);
+            throw new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            cierraCanal(e);
+            throw e;
+        }
+    }
+
+    /* Cierra el canal tras un error al abrir el archivo; si el cierre también falla, lo
+    agrega como suprimido a la causa. */
+    private void cierraCanal(Exception causa) {
+        if (canal == null){
+            return;
+        }
+        try {
+            canal.close();
+        } catch (IOException e) {
+            causa.addSuppressed(e);
+        }
+    }
+
+    private static int numeroBloques(int capacidad) {
+        return (int) (((long) capacidad + MASCARA) >>> BITS_BLOQUE);
+    }
+
+    /* Bytes del bloque b; el último sólo tiene los registros que faltan. */
+    private int bytesBloque(int b) {
+        long registros = Math.min(REGISTROS_POR_BLOQUE, capacidad - ((long) b << BITS_BLOQUE));
+        return (int) registros * REGISTRO;
+    }
+
+    private long clave(int indice) {
+        return bloques[indice >>> BITS_BLOQUE].getLong((indice & MASCARA) * REGISTRO);
+    }
+
+    private long carga(int indice) {
+        return bloques[indice >>> BITS_BLOQUE].getLong((indice & MASCARA) * REGISTRO + 8);
+    }
+
+    private void coloca(int indice, long clave, long carga) {
+        ByteBuffer bloque = bloques[indice >>> BITS_BLOQUE];
+        int desplazamiento = (indice & MASCARA) * REGISTRO;
+        bloque.putLong(desplazamiento, clave);
+        bloque.putLong(desplazamiento + 8, carga);
+    }
+
+    private void mueve(int origen, int destino) {
+        coloca(destino, clave(origen), carga(origen));
+    }
+
+    private void cambiaTamanio(int tamanio) {
+        this.tamanio = tamanio;
+        if (encabezado != null){
+            encabezado.putInt(16, tamanio);
+        }
+    }
+
+    /**
+     * Método para agregar un registro.
+     * @param clave la clave del registro.
+     * @param carga el valor que acompaña a la clave.
+     * @throws IllegalStateException si el montículo está lleno o cerrado.
+     */
+    public void agregar(long clave, long carga) throws IllegalStateException {
+        revisaAbierto();
+        if (tamanio == capacidad){
+            throw new IllegalStateException("El montículo está lleno");
+        }
+        int indice = tamanio;
+        while (indice > 0){
+            int padre = (indice - 1) >>> 1;
+            if (clave(padre) <= clave){
+                break;
+            }
+            mueve(padre, indice);
+            indice = padre;
+        }
+        coloca(indice, clave, carga);
+        cambiaTamanio(tamanio + 1);
+    }
+
+    /**
+     * Metodo para eliminar el registro con la menor clave.
+     * @return la clave eliminada.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long eliminarTope() throws NoSuchElementException {
+        long tope = obtenerPrioritario();
+        int n = tamanio - 1;
+        if (n > 0){
+            long clave = clave(n);
+            long carga = carga(n);
+            int indice = 0;
+            int mitad = n >>> 1;
+            while (indice < mitad){
+                int hijo = 2 * indice + 1;
+                long claveHijo = clave(hijo);
+                if (hijo + 1 < n && clave(hijo + 1) < claveHijo){
+                    hijo += 1;
+                    claveHijo = clave(hijo);
+                }
+                if (claveHijo >= clave){
+                    break;
+                }
+                mueve(hijo, indice);
+                indice = hijo;
+            }
+            coloca(indice, clave, carga);
+        }
+        cambiaTamanio(n);
+        return tope;
+    }
+
+    /**
+     * Metodo para obtener la menor clave del montículo.
+     * @return la clave prioritaria.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long obtenerPrioritario() throws NoSuchElementException {
+        revisaAbierto();
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        return clave(0);
+    }
+
+    /**
+     * Metodo para obtener la carga del registro con la menor clave.
+     * @return la carga del registro prioritario.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long obtenerCargaPrioritaria() throws NoSuchElementException {
+        revisaAbierto();
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        return carga(0);
+    }
+
+    private void revisaAbierto() {
+        if (bloques == null){
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Escribe a disco los cambios del archivo mapeado. Si el montículo no tiene archivo no
+     * hace nada.
+     */
+    public void sincronizar() {
+        revisaAbierto();
+        if (canal == null){
+            return;
+        }
+        for (ByteBuffer bloque : bloques){
+            ((MappedByteBuffer) bloque).force();
+        }
+        encabezado.force();
+    }
+
+    /**
+     * Nos dice si el montículo es vacío.
+     * @return <code>true</code> si no tiene elementos, <code>false</code> en otro caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de registros en el montículo.
+     * @return el número de registros en el montículo.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Regresa el número máximo de registros.
+     * @return la capacidad.
+     */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Sincroniza y cierra el archivo, si lo hay, y suelta los búferes. La memoria directa se
+     * libera cuando el recolector reclama los búferes. Después de cerrarlo el montículo ya
+     * no puede usarse.
+     * @throws UncheckedIOException si falla el cierre del archivo.
+     */
+    @Override
+    public void close() {
+        if (bloques == null){
+            return;
+        }
+        try {
+            if (canal != null){
+                sincronizar();
+                canal.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            this.bloques = null;
+            this.encabezado = null;
+            this.canal = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongMinHeapDirecto[tamanio=" + tamanio + ", capacidad=" + capacidad
+                + (canal != null ? ", mapeado" : "") + "]";
+    }
+
+}
@@ -13,6 +13,26 @@ public class MaxHeap<T extends Comparable<T>> extends Heap<T> {
         super(i);
     }
 
+    public MaxHeap(Iterable<T> i, int umbral){
+        super(i, umbral);
+    }
+
+    public MaxHeap(boolean indexado){
+        super(indexado);
+    }
+
+    public MaxHeap(int aridad){
+        super(aridad, false);
+    }
+
+    public MaxHeap(int aridad, boolean indexado){
+        super(aridad, indexado);
+    }
+
+    public MaxHeap(boolean indexado, int pagina){
+        super(2, indexado, pagina);
+    }
+
     @Override
     protected boolean comparador(T elemento1, T elemento2) {
         return elemento2.compareTo(elemento1)<0; 
@@ -0,0 +1,20 @@
+/**
+ * Montículo de apareamiento donde el tope es el elemento mayor.
+ * @param <T>
+ */
+public class MaxHeapApareamiento<T extends Comparable<T>> extends HeapApareamiento<T> {
+
+    public MaxHeapApareamiento(){
+        super();
+    }
+
+    public MaxHeapApareamiento(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento2.compareTo(elemento1)<0;
+    }
+
+}
@@ -0,0 +1,20 @@
+/**
+ * Cola de prioridad concurrente donde el tope es el elemento mayor.
+ * @param <T>
+ */
+public class MaxHeapConcurrente<T extends Comparable<T>> extends HeapConcurrente<T> {
+
+    public MaxHeapConcurrente(){
+        super();
+    }
+
+    public MaxHeapConcurrente(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento2.compareTo(elemento1)<0;
+    }
+
+}
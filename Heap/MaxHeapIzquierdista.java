@@ -0,0 +1,20 @@
+/**
+ * Montículo izquierdista donde el tope es el elemento mayor.
+ * @param <T>
+ */
+public class MaxHeapIzquierdista<T extends Comparable<T>> extends HeapIzquierdista<T> {
+
+    public MaxHeapIzquierdista(){
+        super();
+    }
+
+    public MaxHeapIzquierdista(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento2.compareTo(elemento1)<0;
+    }
+
+}
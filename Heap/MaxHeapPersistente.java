@@ -0,0 +1,29 @@
+/**
+ * Montículo persistente donde el tope es el elemento mayor.
+ * @param <T>
+ */
+public class MaxHeapPersistente<T extends Comparable<T>> extends HeapPersistente<T> {
+
+    public MaxHeapPersistente(){
+        super();
+    }
+
+    public MaxHeapPersistente(Iterable<T> i){
+        super(i);
+    }
+
+    private MaxHeapPersistente(Version<T> version){
+        super(version);
+    }
+
+    @Override
+    protected HeapPersistente<T> version(Version<T> version) {
+        return new MaxHeapPersistente<>(version);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento1.compareTo(elemento2)>0;
+    }
+
+}
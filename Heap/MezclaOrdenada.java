@@ -0,0 +1,137 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Iterador que mezcla k fuentes ordenadas de menor a mayor en una sola secuencia
+ * ordenada. Guarda un cursor por fuente en un {@link MinHeap}, así que sólo ocupa memoria
+ * proporcional a k y cada elemento devuelto cuesta O(log k).</p>
+ *
+ * <p>Al avanzar, el cursor del tope se reacomoda con {@link Heap#reemplazarTope}, que hace
+ * un solo rebalanceo hacia abajo en lugar de un <code>eliminarTope</code> y un
+ * <code>agregar</code>. Los elementos iguales salen en el orden de sus fuentes y,
+ * opcionalmente, se pueden colapsar en uno solo.</p>
+ * @param <T>
+ */
+public class MezclaOrdenada<T extends Comparable<T>> implements Iterator<T> {
+
+    /**
+     * Clase interna para modelar la posición actual en una fuente. Se compara por su
+     * elemento actual y, en caso de empate, por el número de fuente.
+     */
+    private class Cursor implements Comparable<Cursor> {
+
+        private final Iterator<T> fuente;
+        private final int numero;
+        private T actual;
+
+        private Cursor(Iterator<T> fuente, int numero) {
+            this.fuente = fuente;
+            this.numero = numero;
+        }
+
+        /* Avanza al siguiente elemento de la fuente; devuelve false si ya no hay. */
+        private boolean avanza() {
+            if (!fuente.hasNext()){
+                return false;
+            }
+            this.actual = fuente.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor otro) {
+            int c = actual.compareTo(otro.actual);
+            return c != 0 ? c : Integer.compare(numero, otro.numero);
+        }
+    }
+
+    /**
+     * Cursores de las fuentes que todavía tienen elementos.
+     **/
+    private final MinHeap<Cursor> cursores;
+    /**
+     * Si los elementos iguales se devuelven una sola vez.
+     **/
+    private final boolean sinRepetidos;
+
+    /**
+     * Constructor que recibe los iteradores de las fuentes ordenadas.
+     * @param fuentes los iteradores, cada uno ordenado de menor a mayor.
+     * @param sinRepetidos <code>true</code> si los elementos iguales deben devolverse una
+     *                     sola vez.
+     **/
+    public MezclaOrdenada(Iterable<? extends Iterator<T>> fuentes, boolean sinRepetidos) {
+        this.sinRepetidos = sinRepetidos;
+        ArrayList<Cursor> iniciales = new ArrayList<>();
+        for (Iterator<T> fuente : fuentes){
+            Cursor cursor = new Cursor(fuente, iniciales.size());
+            if (cursor.avanza()){
+                iniciales.add(cursor);
+            }
+        }
+        this.cursores = new MinHeap<>(iniciales);
+    }
+
+    /**
+     * Método que crea la mezcla de varias estructuras iterables ordenadas.
+     * @param fuentes las estructuras, cada una ordenada de menor a mayor.
+     * @param sinRepetidos si los elementos iguales deben devolverse una sola vez.
+     * @return el iterador sobre la mezcla.
+     */
+    public static <T extends Comparable<T>> MezclaOrdenada<T> de(Iterable<? extends Iterable<T>> fuentes,
+                                                                  boolean sinRepetidos) {
+        ArrayList<Iterator<T>> iteradores = new ArrayList<>();
+        for (Iterable<T> fuente : fuentes){
+            iteradores.add(fuente.iterator());
+        }
+        return new MezclaOrdenada<>(iteradores, sinRepetidos);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !cursores.esVacia();
+    }
+
+    @Override
+    public T next() {
+        if (cursores.esVacia()){
+            throw new NoSuchElementException();
+        }
+        T siguiente = cursores.obtenerPrioritario().actual;
+        avanzaTope();
+        if (sinRepetidos){
+            while (!cursores.esVacia() && cursores.obtenerPrioritario().actual.compareTo(siguiente) == 0){
+                avanzaTope();
+            }
+        }
+        return siguiente;
+    }
+
+    /**
+     * Avanza el cursor del tope: si su fuente tiene más elementos lo reacomoda con un solo
+     * rebalanceo y si no lo elimina.
+     **/
+    private void avanzaTope() {
+        Cursor tope = cursores.obtenerPrioritario();
+        if (tope.avanza()){
+            cursores.reemplazarTope(tope);
+        } else {
+            cursores.eliminarTope();
+        }
+    }
+
+    /**
+     * Regresa el número de fuentes que todavía tienen elementos.
+     * @return el número de fuentes activas.
+     */
+    public int getFuentesActivas() {
+        return cursores.getTamanio();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -13,6 +13,26 @@ public class MinHeap<T extends Comparable<T>> extends Heap<T> {
         super(i);
     }
 
+    public MinHeap(Iterable<T> i, int umbral){
+        super(i, umbral);
+    }
+
+    public MinHeap(boolean indexado){
+        super(indexado);
+    }
+
+    public MinHeap(int aridad){
+        super(aridad, false);
+    }
+
+    public MinHeap(int aridad, boolean indexado){
+        super(aridad, indexado);
+    }
+
+    public MinHeap(boolean indexado, int pagina){
+        super(2, indexado, pagina);
+    }
+
     @Override
     protected boolean comparador(T elemento1, T elemento2) {
         return elemento1.compareTo(elemento2)<0;
@@ -0,0 +1,20 @@
+/**
+ * Montículo de apareamiento donde el tope es el elemento menor.
+ * @param <T>
+ */
+public class MinHeapApareamiento<T extends Comparable<T>> extends HeapApareamiento<T> {
+
+    public MinHeapApareamiento(){
+        super();
+    }
+
+    public MinHeapApareamiento(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento1.compareTo(elemento2)<0;
+    }
+
+}
@@ -0,0 +1,20 @@
+/**
+ * Cola de prioridad concurrente donde el tope es el elemento menor.
+ * @param <T>
+ */
+public class MinHeapConcurrente<T extends Comparable<T>> extends HeapConcurrente<T> {
+
+    public MinHeapConcurrente(){
+        super();
+    }
+
+    public MinHeapConcurrente(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento1.compareTo(elemento2)<0;
+    }
+
+}
@@ -0,0 +1,20 @@
+/**
+ * Montículo izquierdista donde el tope es el elemento menor.
+ * @param <T>
+ */
+public class MinHeapIzquierdista<T extends Comparable<T>> extends HeapIzquierdista<T> {
+
+    public MinHeapIzquierdista(){
+        super();
+    }
+
+    public MinHeapIzquierdista(Iterable<T> i){
+        super(i);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento1.compareTo(elemento2)<0;
+    }
+
+}
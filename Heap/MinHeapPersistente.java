@@ -0,0 +1,29 @@
+/**
+ * Montículo persistente donde el tope es el elemento menor.
+ * @param <T>
+ */
+public class MinHeapPersistente<T extends Comparable<T>> extends HeapPersistente<T> {
+
+    public MinHeapPersistente(){
+        super();
+    }
+
+    public MinHeapPersistente(Iterable<T> i){
+        super(i);
+    }
+
+    private MinHeapPersistente(Version<T> version){
+        super(version);
+    }
+
+    @Override
+    protected HeapPersistente<T> version(Version<T> version) {
+        return new MinHeapPersistente<>(version);
+    }
+
+    @Override
+    protected boolean comparador(T elemento1, T elemento2) {
+        return elemento1.compareTo(elemento2)<0;
+    }
+
+}
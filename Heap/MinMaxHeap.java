@@ -0,0 +1,350 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Montículo mínimo-máximo: un montículo doble en el que se pueden consultar y eliminar
+ * tanto el mínimo como el máximo. Usa el mismo arreglo que {@link Heap}, pero los niveles
+ * pares (empezando por la raíz) son niveles mínimos y los impares son niveles máximos:
+ * cada nodo en un nivel mínimo es menor o igual que todos sus descendientes y cada nodo en
+ * un nivel máximo es mayor o igual que todos los suyos.</p>
+ *
+ * <p>El mínimo es la raíz y el máximo es el mayor de sus dos hijos, así que ambos se
+ * consultan en O(1); agregar y eliminar cualquiera de los dos cuesta O(log n).</p>
+ */
+public class MinMaxHeap<T extends Comparable<T>> implements Coleccionable<T> {
+
+    /**
+     * Clase interna para modelar el iterador
+     */
+    private class Iterador implements Iterator<T> {
+
+        private int siguiente;
+
+        @Override
+        public boolean hasNext() {
+            return siguiente < tamanio;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()){
+                throw new NoSuchElementException();
+            }
+            siguiente = siguiente + 1;
+            return arreglo[siguiente - 1];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Arreglo donde se almacenarán los elementos del montículo.
+     **/
+    private T[] arreglo;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un arreglo de un tamaño arbitrario.
+     **/
+    public MinMaxHeap() {
+        this.arreglo = Heap.creaArregloGenerico(2 * 2 * 2 * 2 * 2);
+        this.tamanio = 0;
+    }
+
+    /**
+     * Constructor que recibe una estructura iterable como parámetro.
+     * Agrega todos los elementos en el orden en que se recorre la estructura dada.
+     **/
+    public MinMaxHeap(Iterable<T> it) {
+        this();
+        for (T elem : it){
+            agregar(elem);
+        }
+    }
+
+    /**
+     * Nos dice si el índice está en un nivel mínimo (de profundidad par).
+     **/
+    private boolean esNivelMinimo(int indiceElemento) {
+        return ((31 - Integer.numberOfLeadingZeros(indiceElemento + 1)) & 1) == 0;
+    }
+
+    /**
+     * Compara dos elementos según el tipo de nivel: en un nivel mínimo tiene prioridad el
+     * menor y en uno máximo el mayor.
+     * @return true si elemento1 tiene mayor prioridad que elemento2 en ese tipo de nivel.
+     */
+    private boolean comparador(T elemento1, T elemento2, boolean minimo) {
+        int c = elemento1.compareTo(elemento2);
+        return minimo ? c < 0 : c > 0;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (tamanio == arreglo.length){
+            T[] arreglo_aux = Heap.creaArregloGenerico(2 * tamanio);
+            for (int i = 0; i < tamanio; i++){
+                arreglo_aux[i] = arreglo[i];
+            }
+            this.arreglo = arreglo_aux;
+        }
+        this.arreglo[tamanio] = elemento;
+        this.tamanio += 1;
+        rebalanceaHaciaArriba(tamanio - 1);
+    }
+
+    /**
+     * Metodo que se encarga de hacer el rebalanceo cuando agregamos un elemento: primero lo
+     * compara con su padre para saber si pertenece a los niveles mínimos o a los máximos, y
+     * después lo sube de abuelo en abuelo por esos niveles.
+     * @param indiceElemento
+     */
+    private void rebalanceaHaciaArriba(int indiceElemento) {
+        if (indiceElemento == 0){
+            return;
+        }
+        boolean minimo = esNivelMinimo(indiceElemento);
+        int p = Heap.padre(indiceElemento, 2);
+        if (comparador(arreglo[p], arreglo[indiceElemento], minimo)){
+            Heap.intercambia(arreglo, indiceElemento, p);
+            indiceElemento = p;
+            minimo = !minimo;
+        }
+        while (indiceElemento > 2){
+            int abuelo = Heap.padre(Heap.padre(indiceElemento, 2), 2);
+            if (!comparador(arreglo[indiceElemento], arreglo[abuelo], minimo)){
+                return;
+            }
+            Heap.intercambia(arreglo, indiceElemento, abuelo);
+            indiceElemento = abuelo;
+        }
+    }
+
+    /**
+     * Metodo que se encarga de hacer el rebalanceo hacia abajo desde un índice: en cada paso
+     * busca entre hijos y nietos al de mayor prioridad para el tipo de nivel y lo sube.
+     * @param indiceElemento
+     * @return el índice donde quedó el elemento que estaba en indiceElemento.
+     */
+    private int rebalanceaHaciaAbajo(int indiceElemento) {
+        boolean minimo = esNivelMinimo(indiceElemento);
+        int posicion = indiceElemento;
+        while (Heap.primerHijo(indiceElemento, 2) < tamanio){
+            int m = descendientePrioritario(indiceElemento, minimo);
+            if (!comparador(arreglo[m], arreglo[indiceElemento], minimo)){
+                return posicion;
+            }
+            Heap.intercambia(arreglo, indiceElemento, m);
+            if (m <= Heap.primerHijo(indiceElemento, 2) + 1){
+                return posicion == indiceElemento ? m : posicion;
+            }
+            if (posicion == indiceElemento){
+                posicion = m;
+            }
+            int p = Heap.padre(m, 2);
+            if (comparador(arreglo[p], arreglo[m], minimo)){
+                Heap.intercambia(arreglo, m, p);
+                if (posicion == m){
+                    posicion = p;
+                }
+            }
+            indiceElemento = m;
+        }
+        return posicion;
+    }
+
+    /**
+     * Método que nos dice cuál de los hijos y nietos del índice tiene mayor prioridad para
+     * el tipo de nivel dado. Se utiliza en rebalanceaHaciaAbajo; el índice debe tener al
+     * menos un hijo. Los dos hijos son contiguos en el arreglo, y los cuatro nietos también.
+     **/
+    private int descendientePrioritario(int indiceElemento, boolean minimo) {
+        int hijo = Heap.primerHijo(indiceElemento, 2);
+        int nieto = Heap.primerHijo(hijo, 2);
+        int mejor = hijo;
+        int[] candidatos = {hijo + 1, nieto, nieto + 1, nieto + 2, nieto + 3};
+        for (int c : candidatos){
+            if (c < tamanio && comparador(arreglo[c], arreglo[mejor], minimo)){
+                mejor = c;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Método que nos da el índice del máximo: la raíz si es el único elemento, o el mayor
+     * de sus hijos.
+     **/
+    private int indiceMaximo() {
+        if (tamanio == 1){
+            return 0;
+        }
+        if (tamanio == 2 || arreglo[1].compareTo(arreglo[2]) >= 0){
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Elimina el elemento en el índice dado poniendo en su lugar al último y reacomodándolo.
+     **/
+    private void eliminaEn(int indice) {
+        this.tamanio -= 1;
+        if (indice == tamanio){
+            this.arreglo[tamanio] = null;
+            return;
+        }
+        this.arreglo[indice] = arreglo[tamanio];
+        this.arreglo[tamanio] = null;
+        rebalanceaHaciaArriba(rebalanceaHaciaAbajo(indice));
+    }
+
+    /**
+     * Metodo para obtener el menor elemento del montículo.
+     * @return el mínimo.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerMinimo() throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        return arreglo[0];
+    }
+
+    /**
+     * Metodo para obtener el mayor elemento del montículo.
+     * @return el máximo.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T obtenerMaximo() throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        return arreglo[indiceMaximo()];
+    }
+
+    /**
+     * Metodo para eliminar el menor elemento del montículo.
+     * @return el elemento eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T eliminarMinimo() throws NoSuchElementException {
+        T aux = obtenerMinimo();
+        eliminaEn(0);
+        return aux;
+    }
+
+    /**
+     * Metodo para eliminar el mayor elemento del montículo.
+     * @return el elemento eliminado.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public T eliminarMaximo() throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        int indice = indiceMaximo();
+        T aux = arreglo[indice];
+        eliminaEn(indice);
+        return aux;
+    }
+
+    /**
+     * Elimina un elemento del montículo. Si el elemento no está, no hace nada.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        for (int i = 0; i < tamanio; i++){
+            if (arreglo[i].equals(elemento)){
+                eliminaEn(i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        for (int i = 0; i < tamanio; i++){
+            if (arreglo[i].equals(elemento)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterador();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        MinMaxHeap<T> heap = (MinMaxHeap<T>) o;
+        if (tamanio != heap.tamanio){
+            return false;
+        }
+        for (int i = 0; i < tamanio; i++){
+            if (arreglo[i].compareTo(heap.arreglo[i]) != 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals: combina los elementos en el orden del arreglo.
+     * Supone, como equals, que compareTo es consistente con equals para T.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (int i = 0; i < tamanio; i++){
+            codigo = 31 * codigo + arreglo[i].hashCode();
+        }
+        return codigo;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        String s = "[";
+        for (int i = 0; i < tamanio - 1; i++) {
+            s += arreglo[i] + ", ";
+        }
+        s += arreglo[tamanio-1] + "]";
+
+        return s;
+    }
+
+}
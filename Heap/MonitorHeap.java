@@ -0,0 +1,94 @@
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * <p>MBean estándar que publica por JMX las estadísticas de un {@link Heap} instrumentado,
+ * para consultarlas con jconsole o cualquier otro cliente. Las estadísticas se publican
+ * como un solo atributo compuesto, de modo que los contadores que se ven juntos son de la
+ * misma copia. Si alguien desactiva la instrumentación del montículo, el atributo sigue
+ * leyéndose con los contadores en cero.</p>
+ */
+public class MonitorHeap implements MonitorHeapMXBean {
+
+    private final Heap<?> heap;
+    private ObjectName nombre;
+
+    /**
+     * Constructor que recibe el montículo a publicar y le activa la instrumentación si no
+     * la tenía.
+     * @param heap el montículo.
+     * @throws IllegalArgumentException si el montículo es <code>null</code>.
+     **/
+    public MonitorHeap(Heap<?> heap) {
+        if (heap == null){
+            throw new IllegalArgumentException();
+        }
+        this.heap = heap;
+        if (!heap.instrumentacionActiva()){
+            heap.activarInstrumentacion();
+        }
+    }
+
+    /**
+     * Registra el monitor en el servidor de MBeans de la plataforma con el nombre
+     * <code>Heap:name=</code><i>nombre</i>.
+     * @param nombre el nombre con que aparece el montículo.
+     * @return el nombre de objeto con que quedó registrado.
+     * @throws IllegalStateException si ya está registrado o si JMX rechaza el registro.
+     */
+    public ObjectName registrar(String nombre) {
+        if (this.nombre != null){
+            throw new IllegalStateException();
+        }
+        try {
+            ObjectName objeto = new ObjectName("Heap", "name", ObjectName.quote(nombre));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objeto);
+            this.nombre = objeto;
+            return objeto;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Quita el monitor del servidor de MBeans. Si no está registrado no hace nada.
+     * @throws IllegalStateException si JMX rechaza la operación.
+     */
+    public void desregistrar() {
+        if (nombre == null){
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nombre);
+            this.nombre = null;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public EstadisticasHeap getEstadisticas() {
+        try {
+            return heap.getEstadisticas();
+        } catch (IllegalStateException e) {
+            return new EstadisticasHeap(0, 0, 0, 0, 0, 0, 0, heap.getTamanio());
+        }
+    }
+
+    @Override
+    public boolean isInstrumentacionActiva() {
+        return heap.instrumentacionActiva();
+    }
+
+    @Override
+    public int getTamanio() {
+        return heap.getTamanio();
+    }
+
+    @Override
+    public void reiniciar() {
+        heap.activarInstrumentacion();
+    }
+
+}
@@ -0,0 +1,25 @@
+/**
+ * <p>Interfaz de JMX de {@link MonitorHeap}. Es un MXBean, así que las estadísticas
+ * aparecen como un solo atributo compuesto, tomado de una misma copia de los contadores,
+ * y <code>reiniciar</code> como una operación.</p>
+ */
+public interface MonitorHeapMXBean {
+
+    /**
+     * Regresa una copia de los contadores del montículo. Si la instrumentación está
+     * desactivada, los contadores vienen en cero.
+     * @return las estadísticas del montículo.
+     */
+    public EstadisticasHeap getEstadisticas();
+
+    public boolean isInstrumentacionActiva();
+
+    public int getTamanio();
+
+    /**
+     * Pone en cero los contadores del montículo, activando la instrumentación si estaba
+     * desactivada.
+     */
+    public void reiniciar();
+
+}
@@ -0,0 +1,328 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Cola de prioridad mínima relajada para varios hilos, formada por c·P montículos
+ * ({@link MinHeap}) independientes, cada uno con su propio candado.</p>
+ *
+ * <p><code>agregar</code> pone el elemento en un montículo al azar y
+ * <code>eliminarTope</code> compara los topes de dos montículos al azar y saca el mejor.
+ * El orden no es estrictamente global: el elemento devuelto no siempre es el mínimo, pero
+ * su rango esperado está acotado por el número de montículos (ver
+ * {@link #cotaErrorRango()}). A cambio, los hilos casi nunca compiten por el mismo
+ * candado.</p>
+ * @param <T>
+ */
+public class MultiCola<T extends Comparable<T>> implements Coleccionable<T> {
+
+    /**
+     * Clase interna con un montículo, su candado y una copia de su tope que se puede leer
+     * sin tomar el candado.
+     */
+    private class Fragmento {
+
+        private final MinHeap<T> heap = new MinHeap<>();
+        private final ReentrantLock candado = new ReentrantLock();
+        private volatile T tope;
+
+        /* Se llama con el candado tomado, después de modificar el montículo. */
+        private void actualizaTope() {
+            this.tope = heap.esVacia() ? null : heap.obtenerPrioritario();
+        }
+    }
+
+    /**
+     * Montículos que forman la cola.
+     **/
+    private final ArrayList<Fragmento> fragmentos;
+    /**
+     * Número de veces que un hilo encontró ocupado el candado de cada montículo.
+     **/
+    private final AtomicLongArray contencion;
+    /**
+     * Cantidad de elementos almacenados en la cola.
+     **/
+    private final AtomicInteger tamanio = new AtomicInteger();
+
+    /**
+     * Constructor que no recibe parámetros, crea dos montículos por cada procesador.
+     **/
+    public MultiCola() {
+        this(Runtime.getRuntime().availableProcessors(), 2);
+    }
+
+    /**
+     * Constructor que recibe el número de hilos esperado y cuántos montículos usar por hilo.
+     * @param hilos número de hilos que usarán la cola (P).
+     * @param factor montículos por hilo (c); con 2 o más casi no hay contención.
+     * @throws IllegalArgumentException si alguno de los parámetros es menor que 1.
+     **/
+    public MultiCola(int hilos, int factor) {
+        if (hilos < 1 || factor < 1){
+            throw new IllegalArgumentException();
+        }
+        int n = hilos * factor;
+        this.fragmentos = new ArrayList<>(n);
+        for (int i = 0; i < n; i++){
+            fragmentos.add(new Fragmento());
+        }
+        this.contencion = new AtomicLongArray(n);
+    }
+
+    /**
+     * Toma el candado del montículo en el índice dado sin bloquearse; si está ocupado lo
+     * registra en las métricas de contención.
+     **/
+    private boolean intentaTomar(int indice) {
+        if (fragmentos.get(indice).candado.tryLock()){
+            return true;
+        }
+        contencion.incrementAndGet(indice);
+        return false;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        ThreadLocalRandom azar = ThreadLocalRandom.current();
+        while (true){
+            int indice = azar.nextInt(fragmentos.size());
+            if (intentaTomar(indice)){
+                Fragmento fragmento = fragmentos.get(indice);
+                try {
+                    fragmento.heap.agregar(elemento);
+                    fragmento.actualizaTope();
+                } finally {
+                    fragmento.candado.unlock();
+                }
+                tamanio.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Metodo para eliminar un elemento cercano al mínimo: elige dos montículos al azar y
+     * saca el tope menor de los dos.
+     * @return el elemento eliminado.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    public T eliminarTope() throws NoSuchElementException {
+        ThreadLocalRandom azar = ThreadLocalRandom.current();
+        int n = fragmentos.size();
+        while (true){
+            int i = azar.nextInt(n);
+            int j = azar.nextInt(n);
+            T ti = fragmentos.get(i).tope;
+            T tj = fragmentos.get(j).tope;
+            if (ti == null && tj == null){
+                if (esVacia()){
+                    throw new NoSuchElementException();
+                }
+                continue;
+            }
+            int elegido = (tj == null || (ti != null && ti.compareTo(tj) <= 0)) ? i : j;
+            if (!intentaTomar(elegido)){
+                continue;
+            }
+            Fragmento fragmento = fragmentos.get(elegido);
+            try {
+                if (fragmento.heap.esVacia()){
+                    continue;
+                }
+                T tope = fragmento.heap.eliminarTope();
+                fragmento.actualizaTope();
+                tamanio.decrementAndGet();
+                return tope;
+            } finally {
+                fragmento.candado.unlock();
+            }
+        }
+    }
+
+    /**
+     * Metodo para obtener el menor de los topes de todos los montículos, leídos sin tomar
+     * candados. Si la cola no se está modificando es el mínimo exacto.
+     * @return el elemento prioritario.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    public T obtenerPrioritario() throws NoSuchElementException {
+        T mejor = null;
+        for (Fragmento fragmento : fragmentos){
+            T tope = fragmento.tope;
+            if (tope != null && (mejor == null || tope.compareTo(mejor) < 0)){
+                mejor = tope;
+            }
+        }
+        if (mejor == null){
+            throw new NoSuchElementException();
+        }
+        return mejor;
+    }
+
+    /**
+     * Elimina una aparición de un elemento de la cola. Si el elemento no está, no hace nada.
+     * @param elemento el elemento a eliminar.
+     * @throws NoSuchElementException si la cola es vacía.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (esVacia()){
+            throw new NoSuchElementException();
+        }
+        for (Fragmento fragmento : fragmentos){
+            fragmento.candado.lock();
+            try {
+                int antes = fragmento.heap.getTamanio();
+                if (antes > 0){
+                    fragmento.heap.eliminar(elemento);
+                }
+                if (fragmento.heap.getTamanio() < antes){
+                    fragmento.actualizaTope();
+                    tamanio.decrementAndGet();
+                    return;
+                }
+            } finally {
+                fragmento.candado.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean contiene(T elemento) {
+        for (Fragmento fragmento : fragmentos){
+            fragmento.candado.lock();
+            try {
+                if (fragmento.heap.contiene(elemento)){
+                    return true;
+                }
+            } finally {
+                fragmento.candado.unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return tamanio.get() <= 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return Math.max(tamanio.get(), 0);
+    }
+
+    /**
+     * Regresa el número de montículos que forman la cola.
+     * @return el número de montículos.
+     */
+    public int getNumeroColas() {
+        return fragmentos.size();
+    }
+
+    /**
+     * Cota del error de rango esperado de <code>eliminarTope</code>: en promedio el
+     * elemento devuelto está entre los primeros O(c·P) de la cola, es decir, a lo más a
+     * un número de lugares del mínimo proporcional al número de montículos.
+     * @return el número de montículos, que es la cota del rango esperado.
+     */
+    public int cotaErrorRango() {
+        return fragmentos.size();
+    }
+
+    /**
+     * Regresa cuántas veces un hilo encontró ocupado el candado de cada montículo desde que
+     * se creó la cola o desde la última vez que se reiniciaron las métricas.
+     * @return un arreglo con un contador por montículo.
+     */
+    public long[] getContencion() {
+        long[] copia = new long[contencion.length()];
+        for (int i = 0; i < copia.length; i++){
+            copia[i] = contencion.get(i);
+        }
+        return copia;
+    }
+
+    /**
+     * Pone en cero los contadores de contención.
+     */
+    public void reiniciaContencion() {
+        for (int i = 0; i < contencion.length(); i++){
+            contencion.set(i, 0);
+        }
+    }
+
+    /**
+     * Regresa los elementos de todos los montículos en una lista ordenada, tomando los
+     * candados uno por uno.
+     **/
+    private ArrayList<T> ordenados() {
+        ArrayList<T> elementos = new ArrayList<>();
+        for (Fragmento fragmento : fragmentos){
+            fragmento.candado.lock();
+            try {
+                for (T elem : fragmento.heap){
+                    elementos.add(elem);
+                }
+            } finally {
+                fragmento.candado.unlock();
+            }
+        }
+        Collections.sort(elementos);
+        return elementos;
+    }
+
+    /**
+     * Regresa un iterador sobre una copia de los elementos, en orden de prioridad.
+     * @return el iterador.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(ordenados()).iterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        MultiCola<T> cola = (MultiCola<T>) o;
+        return ordenados().equals(cola.ordenados());
+    }
+
+    /**
+     * Suma los códigos de los elementos, que no dependen de en qué fragmento quedó cada uno,
+     * así que colas iguales tienen el mismo código sin necesidad de ordenarlas.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 0;
+        for (Fragmento fragmento : fragmentos){
+            fragmento.candado.lock();
+            try {
+                for (T elem : fragmento.heap){
+                    codigo += elem.hashCode();
+                }
+            } finally {
+                fragmento.candado.unlock();
+            }
+        }
+        return codigo;
+    }
+
+    @Override
+    public String toString() {
+        return ordenados().toString();
+    }
+
+}
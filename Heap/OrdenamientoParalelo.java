@@ -0,0 +1,120 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>Ordenamiento en paralelo basado en montículos. El arreglo se parte por mitades en
+ * tareas del <code>ForkJoinPool</code> común hasta que los pedazos tienen a lo más
+ * <code>umbral</code> elementos; cada pedazo se ordena con un {@link MinHeap} (o un
+ * {@link MaxHeap} si el orden es descendente) construido con el algoritmo de Floyd, y las
+ * mitades ordenadas se mezclan de regreso.</p>
+ *
+ * <p>Cuesta O(n log n) en total. Las hojas se ordenan en paralelo, pero cada mezcla es
+ * secuencial, así que la última recorre el arreglo completo en un solo hilo. Con menos de
+ * <code>umbral</code> elementos todo se hace en el hilo que llama.</p>
+ */
+public class OrdenamientoParalelo {
+
+    /**
+     * Tamaño por omisión de los pedazos que se ordenan en un solo hilo.
+     **/
+    public static final int UMBRAL = 1 << 13;
+
+    /**
+     * Tarea que ordena el intervalo [inicio, fin) del arreglo, usando el mismo intervalo
+     * de un arreglo auxiliar para las mezclas.
+     */
+    @SuppressWarnings("serial")
+    private static class Tarea<T extends Comparable<T>> extends RecursiveAction {
+
+        private final T[] arreglo, auxiliar;
+        private final int inicio, fin, umbral;
+        private final boolean descendente;
+
+        private Tarea(T[] arreglo, T[] auxiliar, int inicio, int fin, int umbral, boolean descendente) {
+            this.arreglo = arreglo;
+            this.auxiliar = auxiliar;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.umbral = umbral;
+            this.descendente = descendente;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio <= umbral){
+                ordenaPedazo();
+                return;
+            }
+            int mitad = (inicio + fin) >>> 1;
+            invokeAll(new Tarea<>(arreglo, auxiliar, inicio, mitad, umbral, descendente),
+                      new Tarea<>(arreglo, auxiliar, mitad, fin, umbral, descendente));
+            mezcla(mitad);
+        }
+
+        private void ordenaPedazo() {
+            Iterable<T> pedazo = Arrays.asList(arreglo).subList(inicio, fin);
+            Heap<T> heap = descendente ? new MaxHeap<>(pedazo) : new MinHeap<>(pedazo);
+            for (int i = inicio; i < fin; i++){
+                arreglo[i] = heap.eliminarTope();
+            }
+        }
+
+        private void mezcla(int mitad) {
+            System.arraycopy(arreglo, inicio, auxiliar, inicio, fin - inicio);
+            int i = inicio, j = mitad, k = inicio;
+            while (i < mitad && j < fin){
+                int c = auxiliar[j].compareTo(auxiliar[i]);
+                if (descendente ? c > 0 : c < 0){
+                    arreglo[k++] = auxiliar[j++];
+                } else {
+                    arreglo[k++] = auxiliar[i++];
+                }
+            }
+            while (i < mitad){
+                arreglo[k++] = auxiliar[i++];
+            }
+            while (j < fin){
+                arreglo[k++] = auxiliar[j++];
+            }
+        }
+    }
+
+    private OrdenamientoParalelo() {
+    }
+
+    /**
+     * Ordena el arreglo de menor a mayor con el umbral por omisión.
+     * @param arreglo el arreglo a ordenar.
+     * @throws IllegalArgumentException si el arreglo tiene elementos <code>null</code>.
+     */
+    public static <T extends Comparable<T>> void ordenar(T[] arreglo) {
+        ordenar(arreglo, false, UMBRAL);
+    }
+
+    /**
+     * Ordena el arreglo.
+     * @param arreglo el arreglo a ordenar.
+     * @param descendente si se ordena de mayor a menor.
+     * @param umbral tamaño de los pedazos que se ordenan en un solo hilo.
+     * @throws IllegalArgumentException si el umbral es menor que 1 o el arreglo tiene
+     *                                  elementos <code>null</code>.
+     */
+    public static <T extends Comparable<T>> void ordenar(T[] arreglo, boolean descendente, int umbral) {
+        if (umbral < 1){
+            throw new IllegalArgumentException();
+        }
+        for (T elemento : arreglo){
+            if (elemento == null){
+                throw new IllegalArgumentException();
+            }
+        }
+        Tarea<T> tarea = new Tarea<>(arreglo, arreglo.clone(), 0, arreglo.length, umbral, descendente);
+        if (arreglo.length <= umbral){
+            tarea.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(tarea);
+        }
+    }
+
+}
@@ -474,6 +474,1204 @@ public class PruebaHeap {
     }
 
 
+    /**
+     *
+     * @return
+     */
+    public static double pruebaConstructorIterable() {
+        System.out.println("**********Prueba constructor iterable**********");
+        try {
+            java.util.List<Integer> numeros = java.util.Arrays.asList(7, 4, 9, 6, 5, 3, 8, 2, 1);
+            MinHeap<Integer> min = new MinHeap<>(numeros);
+            MaxHeap<Integer> max = new MaxHeap<>(numeros);
+            min.agregarTodos(java.util.Arrays.asList(0, 10));
+            max.agregarTodos(java.util.Arrays.asList(10));
+
+            String s1 = "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10]";
+            String s2 = "[10, 9, 8, 7, 6, 5, 4, 3, 2, 1]";
+            String r1 = "[";
+            while (min.getTamanio() > 1) {
+                r1 += min.eliminarTope() + ", ";
+            }
+            r1 += min.eliminarTope() + "]";
+            String r2 = "[";
+            while (max.getTamanio() > 1) {
+                r2 += max.eliminarTope() + ", ";
+            }
+            r2 += max.eliminarTope() + "]";
+
+            System.out.println("Objetivo MinHeap:\n" + s1);
+            System.out.println("Resultado MinHeap:\n" + r1);
+            System.out.println("Objetivo MaxHeap:\n" + s2);
+            System.out.println("Resultado MaxHeap:\n" + r2);
+            int valor = 0;
+            if (r1.equals(s1) && r2.equals(s2)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("**********Prueba constructor iterable**********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaHeapsPrimitivos() {
+        System.out.println("***********Prueba heaps primitivos***********");
+        try {
+            int[] numeros = {7, 4, 9, 6, 5, 3, 8, 2, 1};
+            IntMinHeap enteros = new IntMinHeap();
+            LongMinHeap min = new LongMinHeap();
+            LongMaxHeap max = new LongMaxHeap();
+            DoubleMinHeap reales = new DoubleMinHeap(2);
+            for (int i = 0; i < numeros.length; i++) {
+                enteros.agregar(numeros[i]);
+                min.agregar(numeros[i], 10 * numeros[i]);
+                max.agregar(numeros[i], i);
+                reales.agregar(numeros[i] / 2.0);
+            }
+
+            String s1 = "[1, 2, 4, 3, 6, 9, 8, 7, 5]";
+            String s2 = "[9, 6, 8, 4, 5, 3, 7, 2, 1]";
+            System.out.println("Objetivo LongMinHeap:\n" + s1);
+            System.out.println("Resultado LongMinHeap:\n" + min);
+            System.out.println("Objetivo LongMaxHeap:\n" + s2);
+            System.out.println("Resultado LongMaxHeap:\n" + max);
+            boolean b = min.toString().equals(s1) && max.toString().equals(s2)
+                    && enteros.toString().equals(s1);
+
+            b = b && max.obtenerCargaPrioritaria() == 2 && min.obtenerCargaPrioritaria() == 10;
+            long anterior = Long.MIN_VALUE;
+            while (!min.esVacia()) {
+                b = b && min.obtenerCargaPrioritaria() == 10 * min.obtenerPrioritario();
+                long actual = min.eliminarTope();
+                b = b && anterior <= actual && enteros.eliminarTope() == actual;
+                anterior = actual;
+            }
+            b = b && reales.getTamanio() == 9 && reales.eliminarTope() == 0.5 && reales.obtenerPrioritario() == 1.0;
+            DoubleMinHeap conNaN = new DoubleMinHeap();
+            for (double d : new double[]{5, Double.NaN, 4, 3, 2, 1, 0}) {
+                conNaN.agregar(d);
+            }
+            String r = "";
+            while (!conNaN.esVacia()) {
+                r += conNaN.eliminarTope() + " ";
+            }
+            b = b && r.equals("0.0 1.0 2.0 3.0 4.0 5.0 NaN ");
+            int valor = 0;
+            if (b && enteros.esVacia()) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("***********Prueba heaps primitivos***********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaHeapIndexado() {
+        System.out.println("************Prueba heap indexado************");
+        try {
+            MinHeap<Integer> min = new MinHeap<>(true);
+            MaxHeap<Integer> max = new MaxHeap<>();
+            int[] numeros = {7, 4, 9, 6, 5, 3, 8, 2, 1};
+            for (int n : numeros) {
+                min.agregar(n);
+                max.agregar(n);
+            }
+            min.eliminar(4);
+            min.eliminar(1);
+            min.cambiarPrioridad(9, 0);
+            min.cambiarPrioridad(2, 10);
+            max.eliminar(6);
+            max.cambiarPrioridad(1, 11);
+
+            String s1 = "[0, 3, 5, 6, 7, 8, 10]";
+            String s2 = "[11, 9, 8, 7, 5, 4, 3, 2]";
+            String r1 = "[";
+            while (min.getTamanio() > 1) {
+                r1 += min.eliminarTope() + ", ";
+            }
+            r1 += min.eliminarTope() + "]";
+            String r2 = "[";
+            while (max.getTamanio() > 1) {
+                r2 += max.eliminarTope() + ", ";
+            }
+            r2 += max.eliminarTope() + "]";
+
+            System.out.println("Objetivo MinHeap:\n" + s1);
+            System.out.println("Resultado MinHeap:\n" + r1);
+            System.out.println("Objetivo MaxHeap:\n" + s2);
+            System.out.println("Resultado MaxHeap:\n" + r2);
+            boolean repetido = false;
+            min.agregar(1);
+            try {
+                min.agregar(1);
+            } catch (IllegalArgumentException e) {
+                repetido = true;
+            }
+            boolean lote = false;
+            try {
+                min.agregarTodos(java.util.Arrays.asList(1, 0));
+            } catch (IllegalArgumentException e) {
+                lote = min.getTamanio() == 1 && min.obtenerPrioritario() == 1;
+            }
+            int valor = 0;
+            if (r1.equals(s1) && r2.equals(s2) && repetido && lote && min.contiene(1) && !min.contiene(2)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("************Prueba heap indexado************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaAridad() {
+        System.out.println("***************Prueba aridad***************");
+        try {
+            MinHeap<Integer> min = new MinHeap<>(4);
+            MaxHeap<Integer> max = new MaxHeap<>(8, true);
+            int[] numeros = {7, 4, 9, 6, 5, 3, 8, 2, 1, 12, 0, 11, 10};
+            for (int n : numeros) {
+                min.agregar(n);
+                max.agregar(n);
+            }
+            max.eliminar(12);
+            max.cambiarPrioridad(0, 13);
+
+            String s1 = "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12]";
+            String s2 = "[13, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1]";
+            String r1 = "[";
+            while (min.getTamanio() > 1) {
+                r1 += min.eliminarTope() + ", ";
+            }
+            r1 += min.eliminarTope() + "]";
+            String r2 = "[";
+            while (max.getTamanio() > 1) {
+                r2 += max.eliminarTope() + ", ";
+            }
+            r2 += max.eliminarTope() + "]";
+
+            System.out.println("Objetivo MinHeap 4-ario:\n" + s1);
+            System.out.println("Resultado MinHeap 4-ario:\n" + r1);
+            System.out.println("Objetivo MaxHeap 8-ario:\n" + s2);
+            System.out.println("Resultado MaxHeap 8-ario:\n" + r2);
+            int valor = 0;
+            if (r1.equals(s1) && r2.equals(s2)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("***************Prueba aridad***************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaHeapConcurrente() {
+        System.out.println("**********Prueba heap concurrente**********");
+        try {
+            final MinHeapConcurrente<Integer> min = new MinHeapConcurrente<>();
+            final int hilos = 4;
+            final int porHilo = 5000;
+            final long[] sumas = new long[hilos];
+            final boolean[] ordenados = new boolean[hilos];
+            Thread[] productores = new Thread[hilos];
+            for (int h = 0; h < hilos; h++) {
+                final int inicio = h * porHilo;
+                productores[h] = new Thread(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        min.agregar(inicio + i);
+                        min.agregar(inicio + i);
+                    }
+                });
+                productores[h].start();
+            }
+            for (Thread t : productores) {
+                t.join();
+            }
+            boolean b = min.getTamanio() == 2 * hilos * porHilo && min.obtenerPrioritario() == 0;
+            min.eliminar(7);
+            b = b && min.contiene(7);
+            min.agregar(7);
+
+            Thread[] consumidores = new Thread[hilos];
+            for (int h = 0; h < hilos; h++) {
+                final int id = h;
+                consumidores[h] = new Thread(() -> {
+                    int anterior = Integer.MIN_VALUE;
+                    ordenados[id] = true;
+                    while (true) {
+                        int actual;
+                        try {
+                            actual = min.eliminarTope();
+                        } catch (NoSuchElementException e) {
+                            return;
+                        }
+                        ordenados[id] = ordenados[id] && anterior <= actual;
+                        anterior = actual;
+                        sumas[id] += actual;
+                    }
+                });
+                consumidores[h].start();
+            }
+            long suma = 0;
+            for (int h = 0; h < hilos; h++) {
+                consumidores[h].join();
+                suma += sumas[h];
+                b = b && ordenados[h];
+            }
+            long n = hilos * porHilo;
+            long objetivo = n * (n - 1);
+
+            System.out.println("Objetivo suma:\n" + objetivo);
+            System.out.println("Resultado suma:\n" + suma);
+            int valor = 0;
+            if (b && suma == objetivo && min.esVacia() && min.getTamanio() == 0) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("**********Prueba heap concurrente**********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaMultiCola() {
+        System.out.println("**************Prueba multicola**************");
+        try {
+            final MultiCola<Integer> cola = new MultiCola<>(2, 2);
+            final int hilos = 4;
+            final int porHilo = 5000;
+            Thread[] productores = new Thread[hilos];
+            for (int h = 0; h < hilos; h++) {
+                final int inicio = h * porHilo;
+                productores[h] = new Thread(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        cola.agregar(inicio + i);
+                    }
+                });
+                productores[h].start();
+            }
+            for (Thread t : productores) {
+                t.join();
+            }
+            boolean b = cola.getTamanio() == hilos * porHilo && cola.obtenerPrioritario() == 0
+                    && cola.getNumeroColas() == 4 && cola.cotaErrorRango() == 4;
+            cola.eliminar(7);
+            b = b && !cola.contiene(7);
+            MultiCola<Integer> una = new MultiCola<>(2, 2);
+            MultiCola<Integer> otra = new MultiCola<>(2, 2);
+            for (int i = 0; i < 50; i++) {
+                una.agregar(i);
+                otra.agregar(49 - i);
+            }
+            b = b && una.equals(otra) && una.hashCode() == otra.hashCode();
+
+            int n = hilos * porHilo - 1;
+            long suma = 0;
+            int errorMaximo = 0;
+            for (int i = 0; i < n; i++) {
+                int minimo = cola.obtenerPrioritario();
+                int tope = cola.eliminarTope();
+                errorMaximo = Math.max(errorMaximo, tope - minimo);
+                suma += tope;
+            }
+            long objetivo = (long) (n + 1) * n / 2 - 7;
+            System.out.println("Objetivo suma:\n" + objetivo);
+            System.out.println("Resultado suma:\n" + suma);
+            System.out.println("Error de rango máximo: " + errorMaximo);
+            int valor = 0;
+            if (b && suma == objetivo && cola.esVacia() && cola.getContencion().length == 4) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("**************Prueba multicola**************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaSelectorTopK() {
+        System.out.println("*************Prueba selector top K*************");
+        try {
+            java.util.List<Integer> numeros = java.util.Arrays.asList(7, 4, 9, 6, 5, 3, 8, 2, 1, 0);
+            SelectorTopK<Integer> mayores = SelectorTopK.de(numeros, 3, true);
+            SelectorTopK<Integer> menores = SelectorTopK.de(numeros, 4, false);
+
+            java.util.List<SelectorTopK<Integer>> partes = new java.util.ArrayList<>();
+            for (int h = 0; h < 4; h++) {
+                SelectorTopK<Integer> parte = new SelectorTopK<>(5, true);
+                for (int i = h; i < 1000; i += 4) {
+                    parte.agregar(i);
+                }
+                partes.add(parte);
+            }
+            SelectorTopK<Integer> combinado = SelectorTopK.combinar(partes);
+
+            String s1 = "[9, 8, 7]";
+            String s2 = "[0, 1, 2, 3]";
+            String s3 = "[999, 998, 997, 996, 995]";
+            System.out.println("Objetivo top 3 mayores:\n" + s1);
+            System.out.println("Resultado top 3 mayores:\n" + mayores);
+            System.out.println("Objetivo top 4 menores:\n" + s2);
+            System.out.println("Resultado top 4 menores:\n" + menores);
+            System.out.println("Objetivo combinado:\n" + s3);
+            System.out.println("Resultado combinado:\n" + combinado);
+            int valor = 0;
+            if (mayores.toString().equals(s1) && menores.toString().equals(s2)
+                    && combinado.toString().equals(s3) && mayores.obtenerUmbral() == 7
+                    && !mayores.agregar(6) && mayores.getTamanio() == 3) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba selector top K*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaMezclaOrdenada() {
+        System.out.println("************Prueba mezcla ordenada************");
+        try {
+            java.util.List<java.util.List<Integer>> fuentes = java.util.Arrays.asList(
+                    java.util.Arrays.asList(1, 4, 7, 9),
+                    java.util.Arrays.asList(),
+                    java.util.Arrays.asList(2, 4, 8),
+                    java.util.Arrays.asList(0, 3, 4, 9, 10));
+
+            String r1 = "[";
+            MezclaOrdenada<Integer> mezcla = MezclaOrdenada.de(fuentes, false);
+            boolean b = mezcla.getFuentesActivas() == 3;
+            while (mezcla.hasNext()) {
+                r1 += mezcla.next() + (mezcla.hasNext() ? ", " : "");
+            }
+            r1 += "]";
+            String r2 = "[";
+            mezcla = MezclaOrdenada.de(fuentes, true);
+            while (mezcla.hasNext()) {
+                r2 += mezcla.next() + (mezcla.hasNext() ? ", " : "");
+            }
+            r2 += "]";
+
+            String s1 = "[0, 1, 2, 3, 4, 4, 4, 7, 8, 9, 9, 10]";
+            String s2 = "[0, 1, 2, 3, 4, 7, 8, 9, 10]";
+            System.out.println("Objetivo mezcla:\n" + s1);
+            System.out.println("Resultado mezcla:\n" + r1);
+            System.out.println("Objetivo mezcla sin repetidos:\n" + s2);
+            System.out.println("Resultado mezcla sin repetidos:\n" + r2);
+            int valor = 0;
+            if (b && r1.equals(s1) && r2.equals(s2) && mezcla.getFuentesActivas() == 0) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("************Prueba mezcla ordenada************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaHeapsFusionables() {
+        System.out.println("***********Prueba heaps fusionables***********");
+        try {
+            java.util.List<Integer> pares = java.util.Arrays.asList(8, 2, 6, 0, 4);
+            java.util.List<Integer> nones = java.util.Arrays.asList(7, 3, 9, 1, 5);
+            MinHeapApareamiento<Integer> minA = new MinHeapApareamiento<>(pares);
+            MinHeapApareamiento<Integer> otroA = new MinHeapApareamiento<>(nones);
+            MaxHeapIzquierdista<Integer> maxI = new MaxHeapIzquierdista<>(pares);
+            MaxHeapIzquierdista<Integer> otroI = new MaxHeapIzquierdista<>(nones);
+            minA.fusionar(otroA);
+            maxI.fusionar(otroI);
+            boolean b = otroA.esVacia() && otroI.esVacia() && minA.getTamanio() == 10
+                    && maxI.getTamanio() == 10 && minA.contiene(9) && maxI.contiene(0);
+            b = b && minA.equals(new MinHeapApareamiento<>(java.util.Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+            minA.eliminar(4);
+            minA.eliminar(9);
+            maxI.eliminar(4);
+            maxI.eliminar(0);
+
+            String s1 = "[0, 1, 2, 3, 5, 6, 7, 8]";
+            String s2 = "[9, 8, 7, 6, 5, 3, 2, 1]";
+            String r1 = "[";
+            while (minA.getTamanio() > 1) {
+                r1 += minA.eliminarTope() + ", ";
+            }
+            r1 += minA.eliminarTope() + "]";
+            String r2 = "[";
+            while (maxI.getTamanio() > 1) {
+                r2 += maxI.eliminarTope() + ", ";
+            }
+            r2 += maxI.eliminarTope() + "]";
+
+            System.out.println("Objetivo apareamiento mínimo:\n" + s1);
+            System.out.println("Resultado apareamiento mínimo:\n" + r1);
+            System.out.println("Objetivo izquierdista máximo:\n" + s2);
+            System.out.println("Resultado izquierdista máximo:\n" + r2);
+            int valor = 0;
+            if (b && r1.equals(s1) && r2.equals(s2)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("***********Prueba heaps fusionables***********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaColaPrioridadExterna() {
+        System.out.println("*********Prueba cola de prioridad externa*********");
+        java.nio.file.Path directorio = null;
+        try {
+            directorio = java.nio.file.Files.createTempDirectory("prueba-heap");
+            java.util.Random azar = new java.util.Random(10);
+            java.util.PriorityQueue<Long> referencia = new java.util.PriorityQueue<>();
+            boolean b = true;
+            try (ColaPrioridadExterna<Long> cola = new ColaPrioridadExterna<>(100, directorio,
+                    Codificador.LARGOS, 4, 256)) {
+                for (int i = 0; i < 2000; i++) {
+                    long n = azar.nextInt(10000);
+                    cola.agregar(n);
+                    referencia.add(n);
+                    if (i % 3 == 0) {
+                        b = b && cola.obtenerPrioritario().equals(referencia.peek());
+                        b = b && cola.eliminarTope().equals(referencia.poll());
+                    }
+                }
+                b = b && cola.getCorridasEscritas() > 0 && cola.getCorridasAbiertas() < 4
+                        && cola.getBytesEscritos() == 8 * cola.getElementosEscritos()
+                        && cola.getTamanio() == referencia.size();
+                while (!cola.esVacia()) {
+                    b = b && cola.eliminarTope().equals(referencia.poll());
+                }
+                System.out.println("Resultado:\n" + cola + ", bytes escritos=" + cola.getBytesEscritos()
+                        + ", bytes leídos=" + cola.getBytesLeidos());
+            }
+            final boolean[] fallar = {true};
+            Codificador<Long> fallido = new Codificador<Long>() {
+                @Override
+                public void escribir(Long elemento, java.io.DataOutput salida) throws java.io.IOException {
+                    if (fallar[0]) {
+                        throw new java.io.IOException("disco lleno");
+                    }
+                    salida.writeLong(elemento);
+                }
+
+                @Override
+                public Long leer(java.io.DataInput entrada) throws java.io.IOException {
+                    return entrada.readLong();
+                }
+            };
+            try (ColaPrioridadExterna<Long> cola = new ColaPrioridadExterna<>(10, directorio, fallido)) {
+                boolean lanzo = false;
+                try {
+                    for (long i = 10; i > 0; i--) {
+                        cola.agregar(i);
+                    }
+                } catch (java.io.UncheckedIOException e) {
+                    lanzo = true;
+                }
+                try (java.util.stream.Stream<java.nio.file.Path> archivos = java.nio.file.Files.list(directorio)) {
+                    b = b && lanzo && archivos.count() == 0 && cola.getTamanioEnMemoria() == 10;
+                }
+                fallar[0] = false;
+                cola.agregar(0L);
+                for (long i = 0; i <= 10; i++) {
+                    b = b && cola.eliminarTope() == i;
+                }
+                b = b && cola.esVacia() && cola.getCorridasEscritas() == 1;
+            }
+            final boolean[] fallarLectura = {false};
+            Codificador<Long> lecturaFallida = new Codificador<Long>() {
+                @Override
+                public void escribir(Long elemento, java.io.DataOutput salida) throws java.io.IOException {
+                    salida.writeLong(elemento);
+                }
+
+                @Override
+                public Long leer(java.io.DataInput entrada) throws java.io.IOException {
+                    if (fallarLectura[0]) {
+                        throw new java.io.IOException("error de lectura");
+                    }
+                    return entrada.readLong();
+                }
+            };
+            try (ColaPrioridadExterna<Long> cola = new ColaPrioridadExterna<>(10, directorio, lecturaFallida)) {
+                for (long i = 1; i <= 25; i++) {
+                    cola.agregar(i);
+                }
+                fallarLectura[0] = true;
+                boolean lanzo = false;
+                long siguiente = 1;
+                try {
+                    while (siguiente <= 25) {
+                        b = b && cola.eliminarTope() == siguiente;
+                        siguiente += 1;
+                    }
+                } catch (java.io.UncheckedIOException e) {
+                    lanzo = true;
+                }
+                b = b && lanzo && cola.getTamanio() == 26 - siguiente
+                        && cola.obtenerPrioritario() == siguiente;
+                fallarLectura[0] = false;
+                for (; siguiente <= 25; siguiente++) {
+                    b = b && cola.eliminarTope() == siguiente;
+                }
+                b = b && cola.esVacia();
+            }
+            try (java.util.stream.Stream<java.nio.file.Path> archivos = java.nio.file.Files.list(directorio)) {
+                b = b && archivos.count() == 0;
+            }
+            int valor = 0;
+            if (b && referencia.isEmpty()) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*********Prueba cola de prioridad externa*********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        } finally {
+            if (directorio != null) {
+                directorio.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaRuedaTemporizadora() {
+        System.out.println("**********Prueba rueda temporizadora**********");
+        try {
+            RuedaTemporizadora<String> rueda = new RuedaTemporizadora<>();
+            rueda.agregar("a", 5);
+            RuedaTemporizadora<String>.Temporizador b = rueda.agregar("b", 70);
+            rueda.agregar("c", 4000);
+            rueda.agregar("d", 20000000L);
+            RuedaTemporizadora<String>.Temporizador e = rueda.agregar("e", 30000000L);
+            rueda.agregar("f", 3);
+
+            boolean v = rueda.proximoVencimiento() == 3 && b.cancelar() && !b.cancelar();
+            String r1 = rueda.drenarVencidos(10).toString();
+            v = v && rueda.proximoVencimiento() == 4000;
+            String r2 = rueda.drenarVencidos(4000).toString();
+            v = v && e.cancelar() && rueda.proximoVencimiento() == 20000000L;
+            String r3 = rueda.drenarVencidos(19999999L).toString();
+            String r4 = rueda.drenarVencidos(20000000L).toString();
+
+            String s1 = "[f, a]";
+            String s2 = "[c]";
+            String s3 = "[]";
+            String s4 = "[d]";
+            System.out.println("Objetivo:\n" + s1 + s2 + s3 + s4);
+            System.out.println("Resultado:\n" + r1 + r2 + r3 + r4);
+            int valor = 0;
+            if (v && r1.equals(s1) && r2.equals(s2) && r3.equals(s3) && r4.equals(s4) && rueda.esVacia()) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("**********Prueba rueda temporizadora**********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaRadixHeap() {
+        System.out.println("***************Prueba radix heap***************");
+        try {
+            RadixHeap radix = new RadixHeap(true);
+            long[] numeros = {7, 4, 9, 6, 5, 3, 8, 2, 1};
+            for (long n : numeros) {
+                radix.agregar(n, (int) (10 * n));
+            }
+            boolean b = radix.obtenerPrioritario() == 1 && radix.obtenerCargaPrioritaria() == 10;
+            String r = "[";
+            r += radix.eliminarTope() + ", ";
+            radix.agregar(1, 10);
+            radix.agregar(100, 1000);
+            while (radix.getTamanio() > 1) {
+                b = b && radix.obtenerCargaPrioritaria() == 10 * radix.obtenerPrioritario();
+                r += radix.eliminarTope() + ", ";
+            }
+            r += radix.eliminarTope() + "]";
+            boolean monotonia = false;
+            try {
+                radix.agregar(99);
+            } catch (IllegalArgumentException e) {
+                monotonia = true;
+            }
+
+            String s1 = "[1, 1, 2, 3, 4, 5, 6, 7, 8, 9, 100]";
+            System.out.println("Objetivo RadixHeap:\n" + s1);
+            System.out.println("Resultado RadixHeap:\n" + r);
+            int valor = 0;
+            if (b && monotonia && r.equals(s1) && radix.esVacia()) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("***************Prueba radix heap***************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaMinMaxHeap() {
+        System.out.println("*************Prueba min-max heap*************");
+        try {
+            MinMaxHeap<Integer> heap = new MinMaxHeap<>(java.util.Arrays.asList(7, 4, 9, 6, 5, 3, 8, 2, 1));
+            boolean b = heap.obtenerMinimo() == 1 && heap.obtenerMaximo() == 9;
+            MinMaxHeap<Integer> otro = new MinMaxHeap<>(java.util.Arrays.asList(7, 4, 9, 6, 5, 3, 8, 2, 1));
+            b = b && heap.equals(otro) && heap.hashCode() == otro.hashCode();
+            heap.eliminar(5);
+            heap.agregar(10);
+            String r = "[";
+            while (heap.getTamanio() > 1) {
+                r += heap.eliminarMinimo() + ", " + heap.eliminarMaximo() + ", ";
+            }
+            r += heap.eliminarMaximo() + "]";
+
+            String s1 = "[1, 10, 2, 9, 3, 8, 4, 7, 6]";
+            System.out.println("Objetivo MinMaxHeap:\n" + s1);
+            System.out.println("Resultado MinMaxHeap:\n" + r);
+            int valor = 0;
+            if (b && r.equals(s1) && heap.esVacia()) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba min-max heap*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    public static double pruebaHeapPaginado() {
+        System.out.println("*************Prueba heap paginado*************");
+        try {
+            MinHeap<Integer> min = new MinHeap<>(false, 4);
+            MaxHeap<Integer> max = new MaxHeap<>(true, 8);
+            for (int i = 0; i < 100; i++) {
+                min.agregar((i * 37) % 100);
+                max.agregar((i * 37) % 100);
+            }
+            max.eliminar(99);
+            max.cambiarPrioridad(0, 100);
+            boolean b = min.contiene(42) && min.getTamanio() == 100 && max.contiene(100);
+            int anterior = -1;
+            while (!min.esVacia()) {
+                int x = min.eliminarTope();
+                b = b && x == anterior + 1;
+                anterior = x;
+            }
+            String r = max.eliminarTope() + ", " + max.eliminarTope() + ", " + max.eliminarTope();
+
+            String s1 = "100, 98, 97";
+            System.out.println("Objetivo MaxHeap paginado:\n" + s1);
+            System.out.println("Resultado MaxHeap paginado:\n" + r);
+            int valor = 0;
+            if (b && r.equals(s1) && max.getTamanio() == 96) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba heap paginado*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    /**
+     *
+     * @return
+     */
+    public static double pruebaLongMinHeapDirecto() {
+        System.out.println("*********Prueba montículo fuera del heap*********");
+        java.nio.file.Path archivo = null;
+        try {
+            archivo = java.nio.file.Files.createTempFile("prueba-heap", ".bin");
+            java.util.Random azar = new java.util.Random(11);
+            java.util.PriorityQueue<Long> referencia = new java.util.PriorityQueue<>();
+            boolean b = true;
+            try (LongMinHeapDirecto heap = new LongMinHeapDirecto(1000)) {
+                for (int i = 0; i < 1000; i++) {
+                    long n = azar.nextInt(5000);
+                    heap.agregar(n, -n);
+                    referencia.add(n);
+                }
+                try {
+                    heap.agregar(0, 0);
+                    b = false;
+                } catch (IllegalStateException e) {
+                }
+                while (!heap.esVacia()) {
+                    b = b && heap.obtenerCargaPrioritaria() == -heap.obtenerPrioritario();
+                    b = b && heap.eliminarTope() == referencia.poll();
+                }
+            }
+            try (LongMinHeapDirecto heap = new LongMinHeapDirecto(archivo, 100)) {
+                for (int i = 0; i < 50; i++) {
+                    heap.agregar((i * 7) % 50, i);
+                }
+                heap.eliminarTope();
+            }
+            String r;
+            try (LongMinHeapDirecto heap = new LongMinHeapDirecto(archivo, 100)) {
+                r = heap.getTamanio() + ": " + heap.eliminarTope() + ", " + heap.eliminarTope()
+                        + ", " + heap.obtenerCargaPrioritaria();
+            }
+            try (java.nio.channels.FileChannel canal = java.nio.channels.FileChannel.open(archivo,
+                    java.nio.file.StandardOpenOption.WRITE)) {
+                java.nio.ByteBuffer tamanio = java.nio.ByteBuffer.allocate(4).order(java.nio.ByteOrder.nativeOrder());
+                canal.write(tamanio.putInt(0, 1000), 16);
+            }
+            try {
+                new LongMinHeapDirecto(archivo, 100).close();
+                b = false;
+            } catch (IllegalArgumentException e) {
+            }
+            try (java.nio.channels.FileChannel canal = java.nio.channels.FileChannel.open(archivo,
+                    java.nio.file.StandardOpenOption.WRITE)) {
+                java.nio.ByteBuffer tamanio = java.nio.ByteBuffer.allocate(4).order(java.nio.ByteOrder.nativeOrder());
+                canal.write(tamanio.putInt(0, 47), 16);
+                canal.truncate(64 + 10 * 16);
+            }
+            try {
+                new LongMinHeapDirecto(archivo, 100).close();
+                b = false;
+            } catch (IllegalArgumentException e) {
+            }
+
+            String s1 = "49: 1, 2, 29";
+            System.out.println("Objetivo tras reabrir:\n" + s1);
+            System.out.println("Resultado tras reabrir:\n" + r);
+            int valor = 0;
+            if (b && r.equals(s1)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*********Prueba montículo fuera del heap*********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        } finally {
+            if (archivo != null) {
+                archivo.toFile().delete();
+            }
+        }
+    }
+
+
+    public static double pruebaIteradorOrdenado() {
+        System.out.println("*********Prueba iterador ordenado y drenado*********");
+        try {
+            MaxHeap<Integer> heap = new MaxHeap<>(java.util.Arrays.asList(7, 4, 9, 6, 5, 3, 8, 2, 1, 0));
+            String antes = heap.toString();
+            String r1 = "";
+            java.util.Iterator<Integer> it = heap.iteradorOrdenado();
+            for (int i = 0; i < 4; i++) {
+                r1 += it.next() + " ";
+            }
+            boolean b = antes.equals(heap.toString()) && heap.getTamanio() == 10;
+            MinHeap<Integer> destino = new MinHeap<>();
+            int k1 = heap.drenarA(destino, 3);
+            int k2 = heap.drenarA(destino, 1);
+            String r2 = destino + " " + k1 + " " + k2 + " " + heap.getTamanio();
+
+            String s1 = "9 8 7 6 ";
+            String s2 = "[6, 7, 8, 9] 3 1 6";
+            System.out.println("Objetivo:\n" + s1 + "| " + s2);
+            System.out.println("Resultado:\n" + r1 + "| " + r2);
+            int valor = 0;
+            if (r1.equals(s1) && r2.equals(s2) && heap.drenarA(destino, 100) == 6
+                    && heap.esVacia() && destino.getTamanio() == 10 && b) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*********Prueba iterador ordenado y drenado*********");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    public static double pruebaHeapPersistente() {
+        System.out.println("*************Prueba heap persistente*************");
+        try {
+            HeapPersistente<Integer> v0 = new MinHeapPersistente<>(java.util.Arrays.asList(7, 4, 9, 6));
+            HeapPersistente<Integer> v1 = v0.agregar(1);
+            HeapPersistente<Integer> v2 = v1.eliminarTope().eliminarTope();
+            HeapPersistente<Integer> v3 = v2.fusionar(new MinHeapPersistente<Integer>().agregar(5));
+            String r = v0 + " " + v1 + " " + v2 + " " + v3;
+
+            String s1 = "[4, 6, 7, 9] [1, 4, 6, 7, 9] [6, 7, 9] [5, 6, 7, 9]";
+            System.out.println("Objetivo versiones:\n" + s1);
+            System.out.println("Resultado versiones:\n" + r);
+            int valor = 0;
+            if (r.equals(s1) && v3 instanceof MinHeapPersistente && v1.getTamanio() == 5
+                    && v0.obtenerPrioritario() == 4 && v3.contiene(5) && !v2.contiene(5)
+                    && new MaxHeapPersistente<Integer>().agregar(2).agregar(3).obtenerPrioritario() == 3) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba heap persistente*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    public static double pruebaParalelo() {
+        System.out.println("*************Prueba construcción paralela*************");
+        try {
+            java.util.Random azar = new java.util.Random(12);
+            java.util.List<Integer> lista = new java.util.ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                lista.add(azar.nextInt(100000));
+            }
+            MinHeap<Integer> min = new MinHeap<>(lista, 64);
+            MaxHeap<Integer> max = new MaxHeap<>(lista, 100);
+            Integer[] ordenado = lista.toArray(new Integer[0]);
+            OrdenamientoParalelo.ordenar(ordenado, false, 100);
+            Integer[] descendente = lista.toArray(new Integer[0]);
+            OrdenamientoParalelo.ordenar(descendente, true, 100);
+            boolean b = min.getTamanio() == 5000 && max.getTamanio() == 5000;
+            for (int i = 0; i < 5000; i++) {
+                b = b && min.eliminarTope().equals(ordenado[i]) && max.eliminarTope().equals(descendente[i]);
+            }
+            Integer[] chico = {3, 1, 2};
+            OrdenamientoParalelo.ordenar(chico);
+            String r = java.util.Arrays.toString(chico);
+
+            String s1 = "[1, 2, 3]";
+            System.out.println("Objetivo:\n" + s1);
+            System.out.println("Resultado:\n" + r);
+            int valor = 0;
+            if (b && r.equals(s1) && ordenado[0] <= ordenado[4999]) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba construcción paralela*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    public static double pruebaHeapComparador() {
+        System.out.println("*************Prueba heap con comparador*************");
+        try {
+            HeapComparador<String> natural = HeapComparador.ordenNatural();
+            HeapComparador<String> largo = new HeapComparador<>(java.util.Comparator.comparing(String::length).reversed());
+            HeapComparador<String> clave = new HeapComparador<>((String c) -> c.charAt(c.length() - 1));
+            for (String c : new String[]{"pera", "uva", "manzana", "kiwi", "higo"}) {
+                natural.agregar(c);
+                largo.agregar(c);
+                clave.agregar(c);
+            }
+            clave.eliminar("uva");
+            HeapComparador<String> otro = HeapComparador.ordenNatural();
+            for (String c : natural) {
+                otro.agregar(c);
+            }
+            boolean b = natural.equals(otro) && natural.hashCode() == otro.hashCode();
+            HeapComparador<String> falla = new HeapComparador<>((String c) -> Long.parseLong(c));
+            falla.agregar("1");
+            try {
+                falla.agregar("uno");
+                b = false;
+            } catch (NumberFormatException e) {
+                b = b && falla.getTamanio() == 1 && falla.toString().equals("[1]");
+            }
+            String r = natural.eliminarTope() + " " + natural.eliminarTope() + " " + largo.eliminarTope()
+                    + " " + largo.eliminarTope().length() + " " + clave.eliminarTope() + " " + clave.eliminarTope();
+
+            String s1 = "higo kiwi manzana 4 pera manzana";
+            System.out.println("Objetivo:\n" + s1);
+            System.out.println("Resultado:\n" + r);
+            int valor = 0;
+            if (b && r.equals(s1) && clave.getTamanio() == 2 && natural.contiene("uva")) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba heap con comparador*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+
+    public static double pruebaInstrumentacion() {
+        System.out.println("*************Prueba instrumentación*************");
+        try {
+            MinHeap<Integer> heap = new MinHeap<>();
+            boolean b = !heap.instrumentacionActiva();
+            heap.agregar(100);
+            MonitorHeap monitor = new MonitorHeap(heap);
+            javax.management.ObjectName nombre = monitor.registrar("prueba");
+            for (int i = 40; i > 0; i--) {
+                heap.agregar(i);
+            }
+            for (int i = 0; i < 10; i++) {
+                heap.eliminarTope();
+            }
+            EstadisticasHeap estadisticas = heap.getEstadisticas();
+            javax.management.MBeanServer servidor = java.lang.management.ManagementFactory.getPlatformMBeanServer();
+            javax.management.openmbean.CompositeData compuesto =
+                    (javax.management.openmbean.CompositeData) servidor.getAttribute(nombre, "Estadisticas");
+            Object comparaciones = compuesto.get("comparaciones");
+            b = b && compuesto.get("intercambios").equals(estadisticas.getIntercambios());
+            String r = estadisticas.getTamanioMaximo() + " " + estadisticas.getTamanio() + " "
+                    + estadisticas.getCrecimientos() + " " + estadisticas.getRebalanceos();
+
+            String s1 = "41 31 1 60";
+            System.out.println("Objetivo:\n" + s1);
+            System.out.println("Resultado:\n" + r + "\n" + estadisticas);
+            b = b && estadisticas.getComparaciones() > 0 && comparaciones.equals(estadisticas.getComparaciones())
+                    && estadisticas.getIntercambios() == estadisticas.getNiveles() + 10
+                    && estadisticas.getProfundidadMaxima() <= 5;
+            heap.desactivarInstrumentacion();
+            try {
+                heap.getEstadisticas();
+                b = false;
+            } catch (IllegalStateException e) {
+            }
+            compuesto = (javax.management.openmbean.CompositeData) servidor.getAttribute(nombre, "Estadisticas");
+            b = b && compuesto.get("comparaciones").equals(0L) && compuesto.get("tamanio").equals(31)
+                    && servidor.getAttribute(nombre, "InstrumentacionActiva").equals(false);
+            monitor.desregistrar();
+            int valor = 0;
+            if (b && r.equals(s1)) {
+                valor = 1;
+                System.out.println("----Prueba existosa-----");
+            } else {
+                System.out.println("++++Prueba fallida++++");
+            }
+
+            System.out.println("*************Prueba instrumentación*************");
+
+            return valor;
+
+        } catch (Exception e) {
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
 
     public static void main(String[] args) {
         
@@ -488,6 +1686,26 @@ public class PruebaHeap {
         calificacion += pruebaEsVacia();
         calificacion += pruebaGetTamanio();
         calificacion += pruebaEquals();
+        calificacion += pruebaConstructorIterable();
+        calificacion += pruebaHeapsPrimitivos();
+        calificacion += pruebaHeapIndexado();
+        calificacion += pruebaAridad();
+        calificacion += pruebaHeapConcurrente();
+        calificacion += pruebaMultiCola();
+        calificacion += pruebaSelectorTopK();
+        calificacion += pruebaMezclaOrdenada();
+        calificacion += pruebaHeapsFusionables();
+        calificacion += pruebaColaPrioridadExterna();
+        calificacion += pruebaRuedaTemporizadora();
+        calificacion += pruebaRadixHeap();
+        calificacion += pruebaMinMaxHeap();
+        calificacion += pruebaHeapPaginado();
+        calificacion += pruebaLongMinHeapDirecto();
+        calificacion += pruebaIteradorOrdenado();
+        calificacion += pruebaHeapPersistente();
+        calificacion += pruebaParalelo();
+        calificacion += pruebaHeapComparador();
+        calificacion += pruebaInstrumentacion();
         System.out.println("Calificacion: " + calificacion);
     }
 }
@@ -0,0 +1,241 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Montículo radix para claves <code>long</code> (o <code>int</code>) que se sacan en orden
+ * no decreciente, como las distancias en el algoritmo de Dijkstra o los tiempos en una
+ * simulación de eventos. Cada clave agregada debe ser mayor o igual que la última clave
+ * eliminada.</p>
+ *
+ * <p>Las claves se guardan en 65 cubetas según el bit más alto en el que difieren de la
+ * última clave eliminada; la cubeta 0 tiene las iguales a ella. <code>agregar</code> cuesta
+ * O(1) y no compara claves; <code>eliminarTope</code> cuesta O(log C) amortizado, donde C es
+ * el rango de las claves, porque cada clave sólo puede bajar de cubeta 64 veces. Igual que
+ * {@link LongHeap}, cada clave puede llevar una carga <code>int</code>.</p>
+ */
+public class RadixHeap {
+
+    /* Número de cubetas: una por cada bit más la de las claves iguales a la última. */
+    private static final int CUBETAS = 65;
+
+    private final long[][] claves;
+    private final int[][] cargas;
+    private final int[] tamanios;
+    /**
+     * Última clave eliminada; todas las claves del montículo son mayores o iguales.
+     **/
+    private long ultimo;
+    /**
+     * Si se verifica que las claves agregadas no sean menores que la última eliminada.
+     **/
+    private final boolean depuracion;
+    /**
+     * Cantidad de elementos almacenados en el montículo.
+     **/
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros, crea un montículo sin verificación.
+     **/
+    public RadixHeap() {
+        this(false);
+    }
+
+    /**
+     * Constructor que permite activar el modo de depuración, en el que agregar una clave
+     * menor que la última eliminada lanza una excepción. Sin él, el comportamiento en ese
+     * caso no está definido.
+     * @param depuracion si se debe verificar la monotonía de las claves.
+     **/
+    public RadixHeap(boolean depuracion) {
+        this.claves = new long[CUBETAS][];
+        this.cargas = new int[CUBETAS][];
+        this.tamanios = new int[CUBETAS];
+        this.ultimo = Long.MIN_VALUE;
+        this.depuracion = depuracion;
+        this.tamanio = 0;
+    }
+
+    /**
+     * Nos dice en qué cubeta va una clave: la posición del bit más alto en el que difiere
+     * de la última clave eliminada, o 0 si es igual.
+     **/
+    private int cubeta(long clave) {
+        return 64 - Long.numberOfLeadingZeros(clave ^ ultimo);
+    }
+
+    /**
+     * Método para agregar una clave sin carga.
+     * @param clave la clave a agregar.
+     * @throws IllegalArgumentException en modo de depuración, si la clave es menor que la
+     *                                  última eliminada.
+     */
+    public void agregar(long clave) throws IllegalArgumentException {
+        agregar(clave, 0);
+    }
+
+    /**
+     * Método para agregar una clave con su carga.
+     * @param clave la clave a agregar.
+     * @param carga el valor que acompaña a la clave.
+     * @throws IllegalArgumentException en modo de depuración, si la clave es menor que la
+     *                                  última eliminada.
+     */
+    public void agregar(long clave, int carga) throws IllegalArgumentException {
+        if (depuracion && clave < ultimo){
+            throw new IllegalArgumentException("La clave " + clave + " es menor que la última eliminada, " + ultimo);
+        }
+        mete(cubeta(clave), clave, carga);
+        this.tamanio += 1;
+    }
+
+    private void mete(int cubeta, long clave, int carga) {
+        int n = tamanios[cubeta];
+        if (claves[cubeta] == null){
+            claves[cubeta] = new long[2 * 2 * 2];
+            cargas[cubeta] = new int[2 * 2 * 2];
+        } else if (n == claves[cubeta].length){
+            claves[cubeta] = Arrays.copyOf(claves[cubeta], 2 * n);
+            cargas[cubeta] = Arrays.copyOf(cargas[cubeta], 2 * n);
+        }
+        claves[cubeta][n] = clave;
+        cargas[cubeta][n] = carga;
+        tamanios[cubeta] = n + 1;
+    }
+
+    /**
+     * Si la cubeta 0 está vacía, toma la primera cubeta con claves, hace de su mínimo la
+     * nueva última clave y reparte sus claves en cubetas más bajas.
+     **/
+    private void preparaTope() {
+        if (tamanios[0] > 0){
+            return;
+        }
+        int i = 1;
+        while (tamanios[i] == 0){
+            i++;
+        }
+        long[] cs = claves[i];
+        int[] gs = cargas[i];
+        int n = tamanios[i];
+        long minimo = cs[0];
+        for (int j = 1; j < n; j++){
+            minimo = Math.min(minimo, cs[j]);
+        }
+        this.ultimo = minimo;
+        tamanios[i] = 0;
+        for (int j = 0; j < n; j++){
+            mete(cubeta(cs[j]), cs[j], gs[j]);
+        }
+    }
+
+    /**
+     * Metodo para eliminar la menor clave del montículo.
+     * @return la clave eliminada.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long eliminarTope() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        preparaTope();
+        tamanios[0] -= 1;
+        this.tamanio -= 1;
+        return ultimo;
+    }
+
+    /**
+     * Metodo para obtener la menor clave del montículo. No modifica las cubetas, así que
+     * no cambia qué claves se pueden agregar después.
+     * @return la clave prioritaria.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public long obtenerPrioritario() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        if (tamanios[0] > 0){
+            return ultimo;
+        }
+        return claves[primeraCubeta()][indiceMinimo(primeraCubeta())];
+    }
+
+    /**
+     * Metodo para obtener la carga de la menor clave del montículo.
+     * @return la carga de la clave prioritaria.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public int obtenerCargaPrioritaria() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        if (tamanios[0] > 0){
+            return cargas[0][tamanios[0] - 1];
+        }
+        return cargas[primeraCubeta()][indiceMinimo(primeraCubeta())];
+    }
+
+    /**
+     * Metodo para eliminar la menor clave del montículo y obtener su carga.
+     * @return la carga de la clave eliminada; la clave es {@link #getUltimo()}.
+     * @throws NoSuchElementException si el montículo es vacío.
+     */
+    public int eliminarTopeCarga() throws NoSuchElementException {
+        if (tamanio == 0){
+            throw new NoSuchElementException();
+        }
+        preparaTope();
+        tamanios[0] -= 1;
+        this.tamanio -= 1;
+        return cargas[0][tamanios[0]];
+    }
+
+    private int primeraCubeta() {
+        int i = 1;
+        while (tamanios[i] == 0){
+            i++;
+        }
+        return i;
+    }
+
+    private int indiceMinimo(int cubeta) {
+        int indice = 0;
+        for (int j = 1; j < tamanios[cubeta]; j++){
+            if (claves[cubeta][j] < claves[cubeta][indice]){
+                indice = j;
+            }
+        }
+        return indice;
+    }
+
+    /**
+     * Regresa la última clave eliminada, que es la cota inferior para las que se agreguen.
+     * @return la última clave eliminada, o <code>Long.MIN_VALUE</code> si no se ha
+     *         eliminado ninguna.
+     */
+    public long getUltimo() {
+        return ultimo;
+    }
+
+    /**
+     * Nos dice si el montículo es vacío.
+     * @return <code>true</code> si no tiene elementos, <code>false</code> en otro caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de elementos en el montículo.
+     * @return el número de elementos en el montículo.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public String toString() {
+        return "RadixHeap[tamanio=" + tamanio + ", ultimo=" + ultimo + "]";
+    }
+
+}
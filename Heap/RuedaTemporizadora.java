@@ -0,0 +1,362 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Cola de retardos implementada con una rueda temporizadora jerárquica. El tiempo se
+ * divide en ticks de <code>resolucion</code> unidades y hay {@link #NIVELES} ruedas de
+ * {@link #RANURAS} ranuras: la del nivel 0 tiene una ranura por tick, la del nivel 1 una
+ * por cada 64 ticks, y así sucesivamente.</p>
+ *
+ * <p>Programar y cancelar cuestan O(1): cada temporizador vive en una lista doblemente
+ * ligada de su ranura. Cuando el tiempo avanza, las ranuras de los niveles altos se
+ * reparten en los niveles bajos. Los vencimientos más allá del horizonte de la rueda
+ * (64<sup>4</sup> ticks) se guardan en un {@link MinHeap} indexado, del que pasan a la
+ * rueda cuando se acercan.</p>
+ * @param <T>
+ */
+public class RuedaTemporizadora<T> {
+
+    /**
+     * Clase interna que representa un elemento programado. Sirve para cancelarlo.
+     */
+    public class Temporizador implements Comparable<Temporizador> {
+
+        private final T elemento;
+        private final long vencimiento;
+        private final long secuencia;
+        private long tick;
+        private int nivel, ranura;
+        private Temporizador anterior, siguiente;
+        private boolean activo;
+
+        private Temporizador(T elemento, long vencimiento, long secuencia) {
+            this.elemento = elemento;
+            this.vencimiento = vencimiento;
+            this.secuencia = secuencia;
+        }
+
+        /**
+         * Regresa el elemento programado.
+         * @return el elemento.
+         */
+        public T getElemento() {
+            return elemento;
+        }
+
+        /**
+         * Regresa el instante en que vence el elemento.
+         * @return el vencimiento.
+         */
+        public long getVencimiento() {
+            return vencimiento;
+        }
+
+        /**
+         * Nos dice si el temporizador sigue pendiente.
+         * @return <code>false</code> si ya venció o se canceló.
+         */
+        public boolean estaActivo() {
+            return activo;
+        }
+
+        /**
+         * Cancela el temporizador en O(1) si está en la rueda, o en O(log n) si su
+         * vencimiento está más allá del horizonte.
+         * @return <code>true</code> si estaba pendiente, <code>false</code> en otro caso.
+         */
+        public boolean cancelar() {
+            return RuedaTemporizadora.this.cancelar(this);
+        }
+
+        @Override
+        public int compareTo(Temporizador otro) {
+            int c = Long.compare(vencimiento, otro.vencimiento);
+            return c != 0 ? c : Long.compare(secuencia, otro.secuencia);
+        }
+    }
+
+    /**
+     * Número de niveles de la rueda.
+     **/
+    public static final int NIVELES = 4;
+    /**
+     * Número de ranuras de cada nivel.
+     **/
+    public static final int RANURAS = 64;
+    /* Bits del tick que corresponden a cada nivel. */
+    private static final int BITS = 6;
+    private static final int MASCARA = RANURAS - 1;
+    /* Nivel que indica que el temporizador está en el montículo. */
+    private static final int EN_MONTICULO = NIVELES;
+
+    private final Temporizador[][] ranuras;
+    private final int[] enNivel;
+    private final MinHeap<Temporizador> lejanos;
+    private final long resolucion;
+    /* Siguiente tick que falta procesar. */
+    private long actual;
+    private long secuencia;
+    private int tamanio;
+
+    /**
+     * Constructor que no recibe parámetros: ticks de una unidad empezando en 0.
+     **/
+    public RuedaTemporizadora() {
+        this(1, 0);
+    }
+
+    /**
+     * Constructor que recibe la duración de un tick y el instante inicial.
+     * @param resolucion número de unidades de tiempo por tick.
+     * @param inicio el instante a partir del cual se cuenta el tiempo.
+     * @throws IllegalArgumentException si la resolución es menor que 1 o el inicio es
+     *                                  negativo.
+     **/
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RuedaTemporizadora(long resolucion, long inicio) {
+        if (resolucion < 1 || inicio < 0){
+            throw new IllegalArgumentException();
+        }
+        this.resolucion = resolucion;
+        this.actual = inicio / resolucion;
+        this.ranuras = (Temporizador[][]) new RuedaTemporizadora.Temporizador[NIVELES][RANURAS];
+        this.enNivel = new int[NIVELES];
+        this.lejanos = new MinHeap<>(true);
+    }
+
+    /**
+     * Programa un elemento para que venza en el instante dado. Si el instante ya pasó,
+     * el elemento sale en la siguiente llamada a {@link #drenarVencidos}.
+     * @param elemento el elemento a programar.
+     * @param vencimiento el instante en que vence.
+     * @return el temporizador con el que se puede cancelar.
+     * @throws IllegalArgumentException si el elemento es <code>null</code> o el vencimiento
+     *                                  es negativo.
+     */
+    public Temporizador agregar(T elemento, long vencimiento) throws IllegalArgumentException {
+        if (elemento == null || vencimiento < 0){
+            throw new IllegalArgumentException();
+        }
+        Temporizador temporizador = new Temporizador(elemento, vencimiento, secuencia++);
+        temporizador.tick = vencimiento / resolucion;
+        temporizador.activo = true;
+        coloca(temporizador);
+        this.tamanio += 1;
+        return temporizador;
+    }
+
+    /**
+     * Pone un temporizador en el nivel más bajo en el que su tick coincide con el actual en
+     * todos los bits de los niveles superiores, o en el montículo si no coincide en ninguno.
+     **/
+    private void coloca(Temporizador temporizador) {
+        long tick = Math.max(temporizador.tick, actual);
+        for (int nivel = 0; nivel < NIVELES; nivel++){
+            int corrimiento = BITS * (nivel + 1);
+            if ((tick >>> corrimiento) == (actual >>> corrimiento)){
+                enlaza(temporizador, nivel, (int) (tick >>> (BITS * nivel)) & MASCARA);
+                return;
+            }
+        }
+        temporizador.nivel = EN_MONTICULO;
+        lejanos.agregar(temporizador);
+    }
+
+    private void enlaza(Temporizador temporizador, int nivel, int ranura) {
+        temporizador.nivel = nivel;
+        temporizador.ranura = ranura;
+        temporizador.anterior = null;
+        temporizador.siguiente = ranuras[nivel][ranura];
+        if (ranuras[nivel][ranura] != null){
+            ranuras[nivel][ranura].anterior = temporizador;
+        }
+        ranuras[nivel][ranura] = temporizador;
+        enNivel[nivel] += 1;
+    }
+
+    private void desenlaza(Temporizador temporizador) {
+        int nivel = temporizador.nivel;
+        if (temporizador.anterior != null){
+            temporizador.anterior.siguiente = temporizador.siguiente;
+        } else {
+            ranuras[nivel][temporizador.ranura] = temporizador.siguiente;
+        }
+        if (temporizador.siguiente != null){
+            temporizador.siguiente.anterior = temporizador.anterior;
+        }
+        temporizador.anterior = null;
+        temporizador.siguiente = null;
+        enNivel[nivel] -= 1;
+    }
+
+    /**
+     * Cancela un temporizador.
+     * @param temporizador el temporizador a cancelar.
+     * @return <code>true</code> si estaba pendiente, <code>false</code> si ya había vencido
+     *         o se había cancelado.
+     */
+    public boolean cancelar(Temporizador temporizador) {
+        if (!temporizador.activo){
+            return false;
+        }
+        if (temporizador.nivel == EN_MONTICULO){
+            lejanos.eliminar(temporizador);
+        } else {
+            desenlaza(temporizador);
+        }
+        temporizador.activo = false;
+        this.tamanio -= 1;
+        return true;
+    }
+
+    /**
+     * Saca todos los elementos que vencen en o antes del instante dado, en orden de tick.
+     * El tiempo de la rueda avanza hasta ese instante.
+     * @param ahora el instante actual.
+     * @return la lista de elementos vencidos, posiblemente vacía.
+     */
+    public List<T> drenarVencidos(long ahora) {
+        ArrayList<T> vencidos = new ArrayList<>();
+        long objetivo = ahora / resolucion;
+        while (actual <= objetivo){
+            bajaLejanos();
+            cascada();
+            if (actual == objetivo){
+                vaciaRanura(vencidos, ahora);
+                break;
+            }
+            vaciaRanura(vencidos, Long.MAX_VALUE);
+            this.actual = siguienteTick(objetivo);
+        }
+        return vencidos;
+    }
+
+    /**
+     * Siguiente tick en el que puede pasar algo, sin pasarse del objetivo: si el nivel 0
+     * tiene temporizadores es el siguiente tick; si no, es el siguiente límite del nivel más
+     * bajo que tenga alguno. Si la rueda está vacía es el límite en el que el primer
+     * temporizador del montículo entra a la rueda.
+     **/
+    private long siguienteTick(long objetivo) {
+        int nivel = 0;
+        while (nivel < NIVELES && enNivel[nivel] == 0){
+            nivel++;
+        }
+        if (nivel == 0){
+            return actual + 1;
+        }
+        int corrimiento = BITS * nivel;
+        long limite = ((actual >>> corrimiento) + 1) << corrimiento;
+        if (nivel == NIVELES){
+            if (lejanos.esVacia()){
+                return objetivo;
+            }
+            limite = Math.max(limite, (lejanos.obtenerPrioritario().tick >>> corrimiento) << corrimiento);
+        }
+        return Math.min(limite, objetivo);
+    }
+
+    /**
+     * Pasa a la rueda los temporizadores del montículo que ya están dentro del horizonte.
+     **/
+    private void bajaLejanos() {
+        int corrimiento = BITS * NIVELES;
+        while (!lejanos.esVacia() && (lejanos.obtenerPrioritario().tick >>> corrimiento) <= (actual >>> corrimiento)){
+            coloca(lejanos.eliminarTope());
+        }
+    }
+
+    /**
+     * En los límites de cada nivel reparte la ranura que corresponde al tick actual entre
+     * los niveles inferiores.
+     **/
+    private void cascada() {
+        for (int nivel = NIVELES - 1; nivel >= 1; nivel--){
+            long bajos = actual & ((1L << (BITS * nivel)) - 1);
+            if (bajos != 0){
+                continue;
+            }
+            int ranura = (int) (actual >>> (BITS * nivel)) & MASCARA;
+            Temporizador temporizador = ranuras[nivel][ranura];
+            ranuras[nivel][ranura] = null;
+            while (temporizador != null){
+                Temporizador siguiente = temporizador.siguiente;
+                enNivel[nivel] -= 1;
+                coloca(temporizador);
+                temporizador = siguiente;
+            }
+        }
+    }
+
+    /**
+     * Saca de la ranura del tick actual los temporizadores que vencen en o antes del límite.
+     **/
+    private void vaciaRanura(List<T> vencidos, long limite) {
+        int ranura = (int) actual & MASCARA;
+        Temporizador temporizador = ranuras[0][ranura];
+        while (temporizador != null){
+            Temporizador siguiente = temporizador.siguiente;
+            if (temporizador.vencimiento <= limite){
+                desenlaza(temporizador);
+                temporizador.activo = false;
+                this.tamanio -= 1;
+                vencidos.add(temporizador.elemento);
+            }
+            temporizador = siguiente;
+        }
+    }
+
+    /**
+     * Regresa el vencimiento más próximo de los elementos pendientes.
+     * @return el menor vencimiento.
+     * @throws NoSuchElementException si no hay elementos pendientes.
+     */
+    public long proximoVencimiento() throws NoSuchElementException {
+        for (int nivel = 0; nivel < NIVELES; nivel++){
+            if (enNivel[nivel] == 0){
+                continue;
+            }
+            int inicio = (int) (actual >>> (BITS * nivel)) & MASCARA;
+            for (int i = 0; i < RANURAS; i++){
+                Temporizador temporizador = ranuras[nivel][(inicio + i) & MASCARA];
+                if (temporizador != null){
+                    long minimo = Long.MAX_VALUE;
+                    while (temporizador != null){
+                        minimo = Math.min(minimo, temporizador.vencimiento);
+                        temporizador = temporizador.siguiente;
+                    }
+                    return minimo;
+                }
+            }
+        }
+        if (lejanos.esVacia()){
+            throw new NoSuchElementException();
+        }
+        return lejanos.obtenerPrioritario().vencimiento;
+    }
+
+    /**
+     * Nos dice si no hay elementos pendientes.
+     * @return <code>true</code> si no hay elementos pendientes, <code>false</code> en otro
+     *         caso.
+     */
+    public boolean esVacia() {
+        return tamanio == 0;
+    }
+
+    /**
+     * Regresa el número de elementos pendientes.
+     * @return el número de elementos pendientes.
+     */
+    public int getTamanio() {
+        return tamanio;
+    }
+
+    @Override
+    public String toString() {
+        return "RuedaTemporizadora[tamanio=" + tamanio + ", tick=" + actual
+                + ", lejanos=" + lejanos.getTamanio() + "]";
+    }
+
+}
@@ -0,0 +1,175 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Clase para quedarse con los K mejores elementos de un flujo sin guardar el flujo
+ * completo. Usa un montículo de capacidad fija K cuyo tope es el peor de los K elementos
+ * que lleva: para los K mayores es un {@link MinHeap} y para los K menores un
+ * {@link MaxHeap}.</p>
+ *
+ * <p>Cada elemento nuevo se compara sólo con el tope; si no lo supera se descarta en O(1)
+ * y si lo supera reemplaza al tope con un solo rebalanceo, en O(log K). Así, procesar un
+ * flujo de n elementos cuesta O(n log K) en tiempo y O(K) en memoria.</p>
+ * @param <T>
+ */
+public class SelectorTopK<T extends Comparable<T>> {
+
+    /**
+     * Montículo con los mejores elementos vistos; su tope es el peor de ellos.
+     **/
+    private final Heap<T> heap;
+    /**
+     * Número máximo de elementos que se conservan.
+     **/
+    private final int k;
+    /**
+     * Si se buscan los mayores (<code>true</code>) o los menores (<code>false</code>).
+     **/
+    private final boolean mayores;
+
+    /**
+     * Constructor que recibe cuántos elementos conservar y si se buscan los mayores o los
+     * menores.
+     * @param k el número de elementos a conservar.
+     * @param mayores <code>true</code> para conservar los K mayores, <code>false</code> para
+     *                los K menores.
+     * @throws IllegalArgumentException si k es menor que 1.
+     **/
+    public SelectorTopK(int k, boolean mayores) {
+        if (k < 1){
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.mayores = mayores;
+        this.heap = mayores ? new MinHeap<T>() : new MaxHeap<T>();
+        heap.reservar(k);
+    }
+
+    /**
+     * Método que recorre una estructura iterable y regresa el selector con sus K mejores
+     * elementos.
+     * @param it la estructura a recorrer.
+     * @param k el número de elementos a conservar.
+     * @param mayores si se buscan los mayores o los menores.
+     * @return el selector con los K mejores elementos de la estructura.
+     */
+    public static <T extends Comparable<T>> SelectorTopK<T> de(Iterable<T> it, int k, boolean mayores) {
+        SelectorTopK<T> selector = new SelectorTopK<>(k, mayores);
+        selector.agregarTodos(it);
+        return selector;
+    }
+
+    /**
+     * Método que combina en paralelo los selectores de varios hilos en uno solo. Los
+     * selectores recibidos se consumen: después de la llamada no deben volver a usarse.
+     * @param partes los selectores a combinar; todos con la misma K y el mismo sentido.
+     * @return un selector con los K mejores elementos de todas las partes.
+     * @throws IllegalArgumentException si no hay partes o no son compatibles.
+     */
+    public static <T extends Comparable<T>> SelectorTopK<T> combinar(List<SelectorTopK<T>> partes) {
+        if (partes.isEmpty()){
+            throw new IllegalArgumentException();
+        }
+        return partes.parallelStream().reduce(SelectorTopK::fusionar).get();
+    }
+
+    /**
+     * Método para ofrecer un elemento al selector. Se conserva sólo si todavía no hay K
+     * elementos o si supera al peor de los que hay.
+     * @param elemento el elemento a ofrecer.
+     * @return <code>true</code> si el elemento se conservó, <code>false</code> en otro caso.
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public boolean agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (heap.getTamanio() < k){
+            heap.agregar(elemento);
+            return true;
+        }
+        if (heap.comparador(heap.obtenerPrioritario(), elemento)){
+            heap.reemplazarTope(elemento);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Método para ofrecer al selector todos los elementos de una estructura iterable.
+     * @param it la estructura con los elementos.
+     */
+    public void agregarTodos(Iterable<T> it) {
+        for (T elem : it){
+            agregar(elem);
+        }
+    }
+
+    /**
+     * Método que agrega a este selector los elementos de otro. El otro selector no se
+     * modifica.
+     * @param otro el selector a fusionar con éste.
+     * @return este mismo selector.
+     * @throws IllegalArgumentException si los selectores tienen distinta K o sentido.
+     */
+    public SelectorTopK<T> fusionar(SelectorTopK<T> otro) {
+        if (otro.k != k || otro.mayores != mayores){
+            throw new IllegalArgumentException();
+        }
+        if (otro != this){
+            agregarTodos(otro.heap);
+        }
+        return this;
+    }
+
+    /**
+     * Metodo para obtener el peor de los elementos conservados, que es el que tiene que
+     * superar un elemento nuevo para entrar.
+     * @return el umbral actual.
+     * @throws NoSuchElementException si el selector es vacío.
+     */
+    public T obtenerUmbral() throws NoSuchElementException {
+        return heap.obtenerPrioritario();
+    }
+
+    /**
+     * Regresa los elementos conservados, del mejor al peor.
+     * @return una lista nueva con los elementos.
+     */
+    public List<T> resultado() {
+        ArrayList<T> lista = new ArrayList<>(heap.getTamanio());
+        for (T elem : heap){
+            lista.add(elem);
+        }
+        if (mayores){
+            lista.sort(Collections.reverseOrder());
+        } else {
+            Collections.sort(lista);
+        }
+        return lista;
+    }
+
+    /**
+     * Regresa el número de elementos conservados, que nunca pasa de K.
+     * @return el número de elementos conservados.
+     */
+    public int getTamanio() {
+        return heap.getTamanio();
+    }
+
+    /**
+     * Regresa el número máximo de elementos que se conservan.
+     * @return K.
+     */
+    public int getK() {
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return resultado().toString();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.jorge;
+import java.util.Random;
+
+/**
+ * <p>Comparación de {@link ListaIndexada} con {@link Lista} en las búsquedas por elemento.
+ * Para 10 mil, un millón y diez millones de elementos mide cuánto cuesta construir la lista
+ * indexada, 100 mil pares <code>contiene</code> + <code>indiceDe</code> al azar y 100 mil
+ * <code>eliminar</code> al azar. En <code>Lista</code> cada búsqueda es lineal, así que
+ * con listas grandes se hacen menos búsquedas y se reporta el promedio.</p>
+ *
+ * <p>Se ejecuta con <code>java -Xmx4g com.jorge.BenchListaIndexada</code>; los diez
+ * millones de elementos necesitan unos 2 GiB entre las dos listas.</p>
+ */
+public class BenchListaIndexada {
+
+    private static final int[] TAMANIOS = {10_000, 1_000_000, 10_000_000};
+    private static final int CONSULTAS = 100_000;
+
+    public static void main(String[] args) {
+        Random azar = new Random(1);
+        long suma = 0;
+        for (int n : TAMANIOS) {
+            Integer[] elementos = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                elementos[i] = i;
+            }
+
+            ListaIndexada<Integer> indexada = new ListaIndexada<>();
+            long inicio = System.nanoTime();
+            for (Integer elemento : elementos) {
+                indexada.agregarAlFinal(elemento);
+            }
+            long construir = System.nanoTime() - inicio;
+            inicio = System.nanoTime();
+            for (int i = 0; i < CONSULTAS; i++) {
+                Integer elemento = elementos[azar.nextInt(n)];
+                if (indexada.contiene(elemento)) {
+                    suma += indexada.indiceDe(elemento);
+                }
+            }
+            long buscar = System.nanoTime() - inicio;
+            inicio = System.nanoTime();
+            for (int i = 0; i < CONSULTAS; i++) {
+                indexada.eliminar(elementos[azar.nextInt(n)]);
+            }
+            long eliminar = System.nanoTime() - inicio;
+            System.out.printf("n=%d ListaIndexada: construir %.1f ms, contiene+indiceDe %.0f ns/op, eliminar %.0f ns/op%n",
+                    n, construir / 1e6, buscar / (double) CONSULTAS, eliminar / (double) CONSULTAS);
+            indexada = null;
+
+            Lista<Integer> lista = new Lista<>();
+            for (Integer elemento : elementos) {
+                lista.agregarAlFinal(elemento);
+            }
+            int consultas = n <= 10_000 ? CONSULTAS : n <= 1_000_000 ? 200 : 20;
+            inicio = System.nanoTime();
+            for (int i = 0; i < consultas; i++) {
+                Integer elemento = elementos[azar.nextInt(n)];
+                if (lista.contiene(elemento)) {
+                    suma += lista.indiceDe(elemento);
+                }
+            }
+            buscar = System.nanoTime() - inicio;
+            System.out.printf("n=%d Lista:         contiene+indiceDe %.0f ns/op (%d consultas)%n",
+                    n, buscar / (double) consultas, consultas);
+            lista = null;
+            System.gc();
+        }
+        /* Para que el compilador no descarte las búsquedas. */
+        System.out.println("suma: " + suma);
+    }
+
+}
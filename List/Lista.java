@@ -106,6 +106,17 @@ public class Lista<T> implements Listable<T> {
         }
     }
 
+    /**
+     * Método que crea los nodos de la lista. Las subclases pueden regresar nodos con
+     * información adicional.
+     *
+     * @param elemento el elemento que guardará el nodo.
+     * @return el nodo nuevo.
+     */
+    protected Nodo creaNodo(T elemento) {
+        return new Nodo(elemento);
+    }
+
     /**
      * Método para agregar un elemento a la lista.
      *
@@ -116,7 +127,7 @@ public class Lista<T> implements Listable<T> {
         if (elemento == null){
             throw new IllegalArgumentException();
         } else {
-            Nodo nuevo = new Nodo(elemento);
+            Nodo nuevo = creaNodo(elemento);
             if (cabeza == null) {
                 this.cabeza = nuevo;
                 this.cola = nuevo;
@@ -139,7 +150,7 @@ public class Lista<T> implements Listable<T> {
         if (elemento == null){
             throw new IllegalArgumentException();
         } else {
-            Nodo nuevo = new Nodo(elemento);
+            Nodo nuevo = creaNodo(elemento);
             if (cabeza == null) {
                 this.cabeza = nuevo;
                 this.cola = nuevo;
@@ -286,13 +297,10 @@ public class Lista<T> implements Listable<T> {
      */
     @Override
     public void eliminar(T elemento) throws NoSuchElementException {
-        if (getNodo(elemento) == null){
+        Nodo aux = getNodo(elemento);
+        if (aux == null){
             return;
-        }
-        if (elemento == null){
-            throw new NoSuchElementException();
         } else {
-            Nodo aux = getNodo(elemento);
             if (longitud == 0) {
                 return;
             } else if (longitud == 1) {
@@ -428,20 +436,24 @@ public class Lista<T> implements Listable<T> {
     }
 
     /**
-     * Método que nos dice si una lista es igual que otra.
+     * Método que nos dice si una lista es igual que otra: si es un {@link Listable}, de
+     * cualquier clase, con los mismos elementos en el mismo orden.
      *
      * @param o objeto a comparar con la lista.
      * @return <code>true</code> si son iguales, <code>false</code> en otro caso.
      */
     @Override
     public boolean equals(Object o) {
-        @SuppressWarnings("unchecked") Lista<T> lista = (Lista<T>) o;
-        if (o == null){
+        if (!(o instanceof Listable)){
+            return (false);
+        }
+        Listable<?> lista = (Listable<?>) o;
+        if (lista.getTamanio() != longitud){
             return (false);
         }
         Iterator<T> iterador = this.iterator();
-        Iterator<T> iteraux = lista.iterator();
-        while (iterador.hasNext() && iteraux.hasNext()){
+        Iterator<?> iteraux = lista.iterator();
+        while (iterador.hasNext()){
             if (!(iterador.next().equals(iteraux.next()))){
                 return (false);
             }
@@ -449,6 +461,19 @@ public class Lista<T> implements Listable<T> {
         return (true);
     }
 
+    /**
+     * Código hash consistente con equals, calculado como el de <code>java.util.List</code>
+     * para que dos listas iguales de distintas clases den el mismo código.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (T elem : this){
+            codigo = 31 * codigo + elem.hashCode();
+        }
+        return codigo;
+    }
+
 
 
 
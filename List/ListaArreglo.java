@@ -0,0 +1,370 @@
+package com.jorge;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Lista respaldada por un arreglo que se usa como búfer circular: los elementos ocupan
+ * <code>longitud</code> posiciones consecutivas a partir de <code>inicio</code>, dando la
+ * vuelta al final del arreglo. Así <code>getElemento</code> cuesta O(1), y agregar o
+ * eliminar en cualquiera de los dos extremos cuesta O(1) amortizado. Si sólo se agrega al
+ * final, <code>inicio</code> se queda en 0 y los elementos quedan contiguos como en un
+ * arreglo común.</p>
+ *
+ * <p>Tiene las mismas operaciones que {@link Lista}, incluidas <code>agregarAlFinal</code>,
+ * <code>getUltimo</code> y <code>eliminarUltimo</code>, así que puede sustituirla donde se
+ * use a través de {@link Listable}. Igual que en <code>Lista</code>, las búsquedas
+ * comparan por identidad (<code>==</code>).</p>
+ * @param <T>
+ */
+public class ListaArreglo<T> implements Listable<T> {
+
+    /**
+     * Capacidad del arreglo si no se indica otra.
+     **/
+    public static final int CAPACIDAD_INICIAL = 16;
+
+    /* Clase interna para recorrer la lista en orden. */
+    private class IteradorLista implements Iterator<T> {
+
+        private int siguiente;
+
+        @Override
+        public boolean hasNext() {
+            return siguiente < longitud;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()){
+                throw new NoSuchElementException();
+            }
+            siguiente += 1;
+            return elemento(siguiente - 1);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /* Atributos de la lista */
+    private Object[] arreglo;
+    private int inicio;
+    private int longitud;
+
+    /**
+     * Constructor por omisión de la clase, no recibe parámetros.
+     * Crea una nueva lista con longitud 0.
+     **/
+    public ListaArreglo() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Constructor que recibe la capacidad inicial del arreglo.
+     * @param capacidad número de elementos que caben antes de tener que crecer.
+     * @throws IllegalArgumentException si la capacidad es menor que 1.
+     **/
+    public ListaArreglo(int capacidad) {
+        if (capacidad < 1){
+            throw new IllegalArgumentException();
+        }
+        this.arreglo = new Object[capacidad];
+        this.inicio = 0;
+        this.longitud = 0;
+    }
+
+    /**
+     * Constructor de la clase que recibe parámetros. Igual que {@link Lista#Lista(Iterable)},
+     * agrega cada elemento de la estructura iterable al inicio, así que la lista queda en el
+     * orden inverso al del recorrido.
+     * @param iterable
+     **/
+    public ListaArreglo(Iterable<T> iterable) {
+        this(iterable instanceof Coleccionable
+                ? Math.max(1, ((Coleccionable<?>) iterable).getTamanio()) : CAPACIDAD_INICIAL);
+        for (T elem : iterable){
+            agregar(elem);
+        }
+    }
+
+    /* Posición en el arreglo del elemento i de la lista. */
+    private int posicion(int i) {
+        int p = inicio + i;
+        return p < arreglo.length ? p : p - arreglo.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int i) {
+        return (T) arreglo[posicion(i)];
+    }
+
+    /* Si el arreglo está lleno, lo duplica dejando los elementos a partir de 0. */
+    private void asegurarCapacidad() {
+        if (longitud < arreglo.length){
+            return;
+        }
+        Object[] nuevo = new Object[2 * arreglo.length];
+        int primeros = Math.min(longitud, arreglo.length - inicio);
+        System.arraycopy(arreglo, inicio, nuevo, 0, primeros);
+        System.arraycopy(arreglo, 0, nuevo, primeros, longitud - primeros);
+        this.arreglo = nuevo;
+        this.inicio = 0;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return longitud == 0;
+    }
+
+    @Override
+    public void vaciar() {
+        this.arreglo = new Object[CAPACIDAD_INICIAL];
+        this.inicio = 0;
+        this.longitud = 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return longitud;
+    }
+
+    @Override
+    public T getPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return elemento(0);
+    }
+
+    /**
+     * Método para obtener el último elemento.
+     */
+    public T getUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return elemento(longitud - 1);
+    }
+
+    /**
+     * Método para agregar un elemento al inicio de la lista.
+     * @param elemento Objeto que se agregará a la lista.
+     */
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        asegurarCapacidad();
+        this.inicio = inicio == 0 ? arreglo.length - 1 : inicio - 1;
+        this.arreglo[inicio] = elemento;
+        this.longitud += 1;
+    }
+
+    /**
+     * Método para agregar al final un elemento a la lista.
+     * @param elemento Objeto que se agregará al final de la lista.
+     */
+    public void agregarAlFinal(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        asegurarCapacidad();
+        this.arreglo[posicion(longitud)] = elemento;
+        this.longitud += 1;
+    }
+
+    @Override
+    public void eliminarPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        this.arreglo[inicio] = null;
+        this.inicio = posicion(1);
+        this.longitud -= 1;
+        if (longitud == 0){
+            this.inicio = 0;
+        }
+    }
+
+    /**
+     * Método para eliminar el último elemento de la lista.
+     */
+    public void eliminarUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        this.arreglo[posicion(longitud - 1)] = null;
+        this.longitud -= 1;
+        if (longitud == 0){
+            this.inicio = 0;
+        }
+    }
+
+    /**
+     * Método para verificar si un elemento pertenece a la lista.
+     * @param elemento Objeto que se va a buscar en la lista.
+     * @return <code>true</code> si el elemento esta en el lista y false en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) throws NoSuchElementException {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Método para eliminar la primera aparición de un elemento. Recorre hacia el hueco la
+     * mitad más corta de la lista, así que cuesta a lo más O(n/2) movimientos.
+     * Si el elemento no está no hace nada.
+     * @param elemento Objeto que se eliminara de la lista.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        int i = indiceDe(elemento);
+        if (i == -1){
+            return;
+        }
+        eliminarEn(i);
+    }
+
+    /**
+     * Método para eliminar el elemento en la posición dada.
+     * @param i la posición a eliminar.
+     * @return el elemento eliminado.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    public T eliminarEn(int i) throws IndexOutOfBoundsException {
+        T aux = getElemento(i);
+        if (i < longitud / 2){
+            for (int j = i; j > 0; j--){
+                arreglo[posicion(j)] = arreglo[posicion(j - 1)];
+            }
+            eliminarPrimero();
+        } else {
+            for (int j = i; j < longitud - 1; j++){
+                arreglo[posicion(j)] = arreglo[posicion(j + 1)];
+            }
+            eliminarUltimo();
+        }
+        return aux;
+    }
+
+    @Override
+    public int indiceDe(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        for (int i = 0; i < longitud; i++){
+            if (arreglo[posicion(i)] == elemento){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Método que nos devuelve el elemento que esta en la posición i, en O(1).
+     * @param i La posición cuyo elemento deseamos conocer.
+     * @return el elemento en esa posición.
+     * @throws IndexOutOfBoundsException Si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    @Override
+    public T getElemento(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        return elemento(i);
+    }
+
+    /**
+     * Método que reemplaza el elemento en la posición i, en O(1).
+     * @param i la posición a reemplazar.
+     * @param elemento el elemento nuevo.
+     * @return el elemento que estaba en esa posición.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt;= getTamanio().
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public T setElemento(int i, T elemento) throws IndexOutOfBoundsException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        T aux = getElemento(i);
+        this.arreglo[posicion(i)] = elemento;
+        return aux;
+    }
+
+    @Override
+    public ListaArreglo<T> reversa() {
+        ListaArreglo<T> alreves = new ListaArreglo<>(Math.max(1, longitud));
+        for (int i = longitud - 1; i >= 0; i--){
+            alreves.agregarAlFinal(elemento(i));
+        }
+        return alreves;
+    }
+
+    @Override
+    public ListaArreglo<T> copia() {
+        ListaArreglo<T> laCopia = new ListaArreglo<>(Math.max(1, longitud));
+        int primeros = Math.min(longitud, arreglo.length - inicio);
+        System.arraycopy(arreglo, inicio, laCopia.arreglo, 0, primeros);
+        System.arraycopy(arreglo, 0, laCopia.arreglo, primeros, longitud - primeros);
+        laCopia.longitud = longitud;
+        return laCopia;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        String cad = "[" + elemento(0);
+        for (int i = 1; i < longitud; i++) {
+            cad += ", " + elemento(i);
+        }
+        return cad + "]";
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradorLista();
+    }
+
+    /**
+     * Método que nos dice si una lista es igual que otra: si es un {@link Listable} con
+     * los mismos elementos en el mismo orden.
+     * @param o objeto a comparar con la lista.
+     * @return <code>true</code> si son iguales, <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Listable)){
+            return false;
+        }
+        Listable<?> lista = (Listable<?>) o;
+        if (lista.getTamanio() != longitud){
+            return false;
+        }
+        Iterator<?> iteraux = lista.iterator();
+        for (int i = 0; i < longitud; i++){
+            if (!arreglo[posicion(i)].equals(iteraux.next())){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals, calculado como el de <code>java.util.List</code>
+     * para que dos listas iguales de distintas clases den el mismo código.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (T elem : this){
+            codigo = 31 * codigo + elem.hashCode();
+        }
+        return codigo;
+    }
+
+}
@@ -0,0 +1,489 @@
+package com.jorge;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Lista desenrollada: una lista doblemente ligada de bloques, cada uno con un arreglo de
+ * a lo más <code>tamanioBloque</code> elementos que ocupan las posiciones
+ * <code>[inicio, fin)</code> del arreglo. En lugar de un nodo con dos referencias por
+ * elemento, como {@link Lista}, cada elemento cuesta una casilla del arreglo más la parte
+ * que le toca de un bloque; con el tamaño por omisión eso es unas cuatro veces menos
+ * memoria, y recorrer la lista lee arreglos contiguos en lugar de saltar de nodo en
+ * nodo.</p>
+ *
+ * <p>Agregar y eliminar en los extremos cuesta O(1): si el bloque del extremo no tiene
+ * lugar se liga uno nuevo, y el bloque que se vacía se desliga. Eliminar en medio recorre
+ * los elementos dentro de su bloque y después lo junta con el siguiente y con el anterior
+ * cuando entre los dos caben en uno. Así, tras eliminar en medio, el bloque que quedó y
+ * cada uno de sus vecinos suman más de <code>tamanioBloque</code> elementos, es decir,
+ * están en promedio más de medio llenos, y no se acumulan bloques casi vacíos. Como en
+ * {@link Lista}, las búsquedas comparan por identidad (<code>==</code>).</p>
+ * @param <T>
+ */
+public class ListaDesenrollada<T> implements Listable<T> {
+
+    /**
+     * Número de elementos por bloque si no se indica otro.
+     **/
+    public static final int TAMANIO_BLOQUE = 64;
+
+    /* Clase interna para construir la estructura. */
+    private class Bloque {
+
+        private final Object[] elementos;
+        private int inicio, fin;
+        private Bloque anterior, siguiente;
+
+        /* Crea un bloque vacío cuyos elementos empezarán en la posición dada. */
+        private Bloque(int posicion) {
+            this.elementos = new Object[tamanioBloque];
+            this.inicio = posicion;
+            this.fin = posicion;
+        }
+
+        private int cuenta() {
+            return fin - inicio;
+        }
+
+        /* Quita el elemento en la posición dada del arreglo recorriendo los de la derecha. */
+        private void quita(int posicion) {
+            System.arraycopy(elementos, posicion + 1, elementos, posicion, fin - posicion - 1);
+            this.fin -= 1;
+            this.elementos[fin] = null;
+        }
+
+        /* Deja los elementos a partir de la posición 0. */
+        private void compacta() {
+            if (inicio == 0){
+                return;
+            }
+            int n = cuenta();
+            System.arraycopy(elementos, inicio, elementos, 0, n);
+            Arrays.fill(elementos, Math.max(n, inicio), fin, null);
+            this.inicio = 0;
+            this.fin = n;
+        }
+    }
+
+    /* Clase interna para recorrer la lista en orden. */
+    private class IteradorLista implements Iterator<T> {
+
+        private Bloque bloque;
+        private int posicion;
+
+        private IteradorLista() {
+            this.bloque = cabeza;
+            this.posicion = cabeza == null ? 0 : cabeza.inicio;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bloque != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (bloque == null){
+                throw new NoSuchElementException();
+            }
+            T aux = (T) bloque.elementos[posicion];
+            posicion += 1;
+            if (posicion == bloque.fin){
+                bloque = bloque.siguiente;
+                posicion = bloque == null ? 0 : bloque.inicio;
+            }
+            return aux;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /* Atributos de la lista */
+    private final int tamanioBloque;
+    private Bloque cabeza, cola;
+    private int longitud;
+
+    /**
+     * Constructor por omisión de la clase, no recibe parámetros.
+     * Crea una nueva lista con longitud 0.
+     **/
+    public ListaDesenrollada() {
+        this(TAMANIO_BLOQUE);
+    }
+
+    /**
+     * Constructor que recibe el número de elementos por bloque. Bloques más grandes gastan
+     * menos memoria por elemento pero hacen más caro eliminar en medio.
+     * @param tamanioBloque número de elementos que caben en cada bloque.
+     * @throws IllegalArgumentException si el tamaño es menor que 2.
+     **/
+    public ListaDesenrollada(int tamanioBloque) {
+        if (tamanioBloque < 2){
+            throw new IllegalArgumentException();
+        }
+        this.tamanioBloque = tamanioBloque;
+    }
+
+    /**
+     * Constructor de la clase que recibe parámetros. Igual que {@link Lista#Lista(Iterable)},
+     * agrega cada elemento de la estructura iterable al inicio, así que la lista queda en el
+     * orden inverso al del recorrido.
+     * @param iterable
+     **/
+    public ListaDesenrollada(Iterable<T> iterable) {
+        this();
+        for (T elem : iterable){
+            agregar(elem);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(Bloque bloque, int posicion) {
+        return (T) bloque.elementos[posicion];
+    }
+
+    /* Desliga un bloque vacío. */
+    private void desliga(Bloque bloque) {
+        if (bloque.anterior == null){
+            this.cabeza = bloque.siguiente;
+        } else {
+            bloque.anterior.siguiente = bloque.siguiente;
+        }
+        if (bloque.siguiente == null){
+            this.cola = bloque.anterior;
+        } else {
+            bloque.siguiente.anterior = bloque.anterior;
+        }
+    }
+
+    @Override
+    public boolean esVacia() {
+        return longitud == 0;
+    }
+
+    @Override
+    public void vaciar() {
+        this.cabeza = null;
+        this.cola = null;
+        this.longitud = 0;
+    }
+
+    @Override
+    public int getTamanio() {
+        return longitud;
+    }
+
+    @Override
+    public T getPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return elemento(cabeza, cabeza.inicio);
+    }
+
+    /**
+     * Método para obtener el último elemento.
+     */
+    public T getUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return elemento(cola, cola.fin - 1);
+    }
+
+    /**
+     * Método para agregar un elemento al inicio de la lista.
+     * @param elemento Objeto que se agregará a la lista.
+     */
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (cabeza == null || cabeza.inicio == 0){
+            Bloque nuevo = new Bloque(tamanioBloque);
+            nuevo.siguiente = cabeza;
+            if (cabeza == null){
+                this.cola = nuevo;
+            } else {
+                cabeza.anterior = nuevo;
+            }
+            this.cabeza = nuevo;
+        }
+        cabeza.inicio -= 1;
+        cabeza.elementos[cabeza.inicio] = elemento;
+        this.longitud += 1;
+    }
+
+    /**
+     * Método para agregar al final un elemento a la lista.
+     * @param elemento Objeto que se agregará al final de la lista.
+     */
+    public void agregarAlFinal(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (cola == null || cola.fin == tamanioBloque){
+            Bloque nuevo = new Bloque(0);
+            nuevo.anterior = cola;
+            if (cola == null){
+                this.cabeza = nuevo;
+            } else {
+                cola.siguiente = nuevo;
+            }
+            this.cola = nuevo;
+        }
+        cola.elementos[cola.fin] = elemento;
+        cola.fin += 1;
+        this.longitud += 1;
+    }
+
+    @Override
+    public void eliminarPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        cabeza.elementos[cabeza.inicio] = null;
+        cabeza.inicio += 1;
+        this.longitud -= 1;
+        if (cabeza.cuenta() == 0){
+            desliga(cabeza);
+        }
+    }
+
+    /**
+     * Método para eliminar el último elemento de la lista.
+     */
+    public void eliminarUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        cola.fin -= 1;
+        cola.elementos[cola.fin] = null;
+        this.longitud -= 1;
+        if (cola.cuenta() == 0){
+            desliga(cola);
+        }
+    }
+
+    /**
+     * Método para verificar si un elemento pertenece a la lista.
+     * @param elemento Objeto que se va a buscar en la lista.
+     * @return <code>true</code> si el elemento esta en el lista y false en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) throws NoSuchElementException {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Método para eliminar la primera aparición de un elemento. Recorre los elementos de su
+     * bloque y, si después entre él y el siguiente o el anterior caben en un bloque, los
+     * junta.
+     * Si el elemento no está no hace nada.
+     * @param elemento Objeto que se eliminara de la lista.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente){
+            for (int i = bloque.inicio; i < bloque.fin; i++){
+                if (bloque.elementos[i] == elemento){
+                    if (bloque == cabeza && i == bloque.inicio){
+                        eliminarPrimero();
+                    } else {
+                        eliminaEn(bloque, i);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /* Elimina el elemento en la posición dada del arreglo de un bloque. */
+    private void eliminaEn(Bloque bloque, int posicion) {
+        bloque.quita(posicion);
+        this.longitud -= 1;
+        if (bloque.cuenta() == 0){
+            desliga(bloque);
+            return;
+        }
+        if (bloque.siguiente != null){
+            junta(bloque, bloque.siguiente);
+        }
+        if (bloque.anterior != null){
+            junta(bloque.anterior, bloque);
+        }
+    }
+
+    /* Pasa los elementos de un bloque al final del anterior y lo desliga, si caben. */
+    private void junta(Bloque bloque, Bloque siguiente) {
+        if (bloque.cuenta() + siguiente.cuenta() > tamanioBloque){
+            return;
+        }
+        if (bloque.fin + siguiente.cuenta() > tamanioBloque){
+            bloque.compacta();
+        }
+        System.arraycopy(siguiente.elementos, siguiente.inicio, bloque.elementos, bloque.fin,
+                         siguiente.cuenta());
+        bloque.fin += siguiente.cuenta();
+        desliga(siguiente);
+    }
+
+    /**
+     * Método para eliminar el elemento en la posición dada. Cuesta O(n / tamanioBloque)
+     * para encontrar el bloque más O(tamanioBloque) para sacarlo.
+     * @param i la posición a eliminar.
+     * @return el elemento eliminado.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    public T eliminarEn(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        if (i == 0){
+            T aux = getPrimero();
+            eliminarPrimero();
+            return aux;
+        }
+        Bloque bloque = cabeza;
+        while (i >= bloque.cuenta()){
+            i -= bloque.cuenta();
+            bloque = bloque.siguiente;
+        }
+        T aux = elemento(bloque, bloque.inicio + i);
+        eliminaEn(bloque, bloque.inicio + i);
+        return aux;
+    }
+
+    @Override
+    public int indiceDe(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        int indice = 0;
+        for (Bloque bloque = cabeza; bloque != null; bloque = bloque.siguiente){
+            for (int i = bloque.inicio; i < bloque.fin; i++){
+                if (bloque.elementos[i] == elemento){
+                    return indice + i - bloque.inicio;
+                }
+            }
+            indice += bloque.cuenta();
+        }
+        return -1;
+    }
+
+    /**
+     * Método que nos devuelve el elemento que esta en la posición i. Salta bloques
+     * completos desde el extremo más cercano, así que cuesta O(n / tamanioBloque).
+     * @param i La posición cuyo elemento deseamos conocer.
+     * @return el elemento en esa posición.
+     * @throws IndexOutOfBoundsException Si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    @Override
+    public T getElemento(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        if (i < longitud / 2){
+            Bloque bloque = cabeza;
+            while (i >= bloque.cuenta()){
+                i -= bloque.cuenta();
+                bloque = bloque.siguiente;
+            }
+            return elemento(bloque, bloque.inicio + i);
+        }
+        int j = longitud - 1 - i;
+        Bloque bloque = cola;
+        while (j >= bloque.cuenta()){
+            j -= bloque.cuenta();
+            bloque = bloque.anterior;
+        }
+        return elemento(bloque, bloque.fin - 1 - j);
+    }
+
+    @Override
+    public ListaDesenrollada<T> reversa() {
+        ListaDesenrollada<T> alreves = new ListaDesenrollada<>(tamanioBloque);
+        for (T elem : this){
+            alreves.agregar(elem);
+        }
+        return alreves;
+    }
+
+    /**
+     * Método que devuelve una copia exacta de la lista, con los bloques llenos.
+     * @return la copia de la lista.
+     */
+    @Override
+    public ListaDesenrollada<T> copia() {
+        ListaDesenrollada<T> laCopia = new ListaDesenrollada<>(tamanioBloque);
+        for (T elem : this){
+            laCopia.agregarAlFinal(elem);
+        }
+        return laCopia;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        Iterator<T> it = iterator();
+        StringBuilder cad = new StringBuilder("[").append(it.next());
+        while (it.hasNext()) {
+            cad.append(", ").append(it.next());
+        }
+        return cad.append("]").toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradorLista();
+    }
+
+    /**
+     * Método que nos dice si una lista es igual que otra: si es un {@link Listable} con
+     * los mismos elementos en el mismo orden.
+     * @param o objeto a comparar con la lista.
+     * @return <code>true</code> si son iguales, <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Listable)){
+            return false;
+        }
+        Listable<?> lista = (Listable<?>) o;
+        if (lista.getTamanio() != longitud){
+            return false;
+        }
+        Iterator<?> iteraux = lista.iterator();
+        for (T elem : this){
+            if (!elem.equals(iteraux.next())){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals, calculado como el de <code>java.util.List</code>
+     * para que dos listas iguales de distintas clases den el mismo código.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (T elem : this){
+            codigo = 31 * codigo + elem.hashCode();
+        }
+        return codigo;
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.jorge;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Lista doblemente ligada que además guarda un índice de cada elemento a sus nodos, de
+ * modo que <code>contiene</code>, <code>eliminar</code> e <code>indiceDe</code> no recorren
+ * la lista. Conserva el orden de inserción y se usa igual que {@link Lista}; igual que ella,
+ * las búsquedas comparan por identidad (<code>==</code>), por eso el índice es un
+ * <code>IdentityHashMap</code>.</p>
+ *
+ * <p>Cada nodo lleva además una etiqueta de orden: agregar al inicio le pone la etiqueta
+ * del primero menos uno y agregar al final la del último más uno, así que mientras sólo se
+ * agregue o elimine en los extremos la posición de un nodo es su etiqueta menos la de la
+ * cabeza, y <code>indiceDe</code> cuesta O(1). Eliminar en medio deja un hueco en las
+ * etiquetas; el siguiente <code>indiceDe</code> vuelve a numerar la lista en O(n) y los
+ * demás vuelven a costar O(1) hasta el próximo hueco.</p>
+ *
+ * <p>A cambio, cada elemento ocupa una entrada en el índice además de su nodo, y
+ * <code>agregar</code> y <code>eliminarPrimero</code> pagan una operación de tabla hash.
+ * <code>getElemento</code> sigue costando O(n).</p>
+ * @param <T>
+ */
+public class ListaIndexada<T> extends Lista<T> {
+
+    /* Nodo con la etiqueta que da su orden en la lista. */
+    private class NodoIndexado extends Nodo {
+
+        private long orden;
+
+        private NodoIndexado(T elemento) {
+            super(elemento);
+        }
+    }
+
+    /* Para cada elemento, su nodo o, si aparece varias veces, una cola con sus nodos en el
+    orden de la lista. */
+    private final IdentityHashMap<T, Object> indice = new IdentityHashMap<>();
+    /* Si se eliminó un nodo de en medio desde la última vez que se numeró la lista. */
+    private boolean desordenada;
+
+    /**
+     * Constructor por omisión de la clase, no recibe parámetros.
+     * Crea una nueva lista con longitud 0.
+     **/
+    public ListaIndexada() {
+        super();
+    }
+
+    /**
+     * Constructor de la clase que recibe parámetros. Igual que el de {@link Lista}, agrega
+     * cada elemento de la estructura iterable al inicio.
+     *
+     * @param iterable
+     **/
+    public ListaIndexada(Iterable<T> iterable) {
+        this();
+        for (T elem : iterable) {
+            this.agregar(elem);
+        }
+    }
+
+    @Override
+    protected Nodo creaNodo(T elemento) {
+        return new NodoIndexado(elemento);
+    }
+
+    private NodoIndexado nodo(Nodo nodo) {
+        return (NodoIndexado) nodo;
+    }
+
+    /* El nodo de la primera aparición del elemento, o null si no está. */
+    @SuppressWarnings("unchecked")
+    private NodoIndexado primerNodo(T elemento) {
+        Object nodos = indice.get(elemento);
+        if (nodos instanceof ArrayDeque){
+            return ((ArrayDeque<NodoIndexado>) nodos).peekFirst();
+        }
+        return (NodoIndexado) nodos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registra(NodoIndexado nodo, boolean alInicio) {
+        Object nodos = indice.putIfAbsent(nodo.elemento, nodo);
+        if (nodos == null){
+            return;
+        }
+        ArrayDeque<NodoIndexado> cola;
+        if (nodos instanceof ArrayDeque){
+            cola = (ArrayDeque<NodoIndexado>) nodos;
+        } else {
+            cola = new ArrayDeque<>(4);
+            cola.add((NodoIndexado) nodos);
+            indice.put(nodo.elemento, cola);
+        }
+        if (alInicio){
+            cola.addFirst(nodo);
+        } else {
+            cola.addLast(nodo);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void quita(NodoIndexado nodo) {
+        Object nodos = indice.get(nodo.elemento);
+        if (!(nodos instanceof ArrayDeque)){
+            indice.remove(nodo.elemento);
+            return;
+        }
+        ArrayDeque<NodoIndexado> cola = (ArrayDeque<NodoIndexado>) nodos;
+        if (cola.peekFirst() == nodo){
+            cola.pollFirst();
+        } else if (cola.peekLast() == nodo){
+            cola.pollLast();
+        } else {
+            cola.remove(nodo);
+        }
+        if (cola.size() == 1){
+            indice.put(nodo.elemento, cola.peekFirst());
+        }
+    }
+
+    /* Vuelve a numerar los nodos desde 0 para quitar los huecos. */
+    private void numera() {
+        long orden = 0;
+        for (Nodo aux = cabeza; aux != null; aux = aux.siguiente){
+            nodo(aux).orden = orden++;
+        }
+        this.desordenada = false;
+    }
+
+    @Override
+    public void vaciar() {
+        super.vaciar();
+        this.indice.clear();
+        this.desordenada = false;
+    }
+
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        super.agregar(elemento);
+        NodoIndexado nuevo = nodo(cabeza);
+        nuevo.orden = nuevo.siguiente == null ? 0 : nodo(nuevo.siguiente).orden - 1;
+        registra(nuevo, true);
+    }
+
+    @Override
+    public void agregarAlFinal(T elemento) throws IllegalArgumentException {
+        super.agregarAlFinal(elemento);
+        NodoIndexado nuevo = nodo(cola);
+        nuevo.orden = nuevo.anterior == null ? 0 : nodo(nuevo.anterior).orden + 1;
+        registra(nuevo, false);
+    }
+
+    @Override
+    public void eliminarPrimero() throws NoSuchElementException {
+        NodoIndexado primero = nodo(cabeza);
+        super.eliminarPrimero();
+        quita(primero);
+    }
+
+    @Override
+    public void eliminarUltimo() throws NoSuchElementException {
+        NodoIndexado ultimo = nodo(cola);
+        super.eliminarUltimo();
+        quita(ultimo);
+    }
+
+    /**
+     * Método para saber si un elemento está en la lista, en O(1).
+     *
+     * @param elemento Objeto que se va a buscar en la lista.
+     * @return <code>true</code> si el elemento esta en el lista y false en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        return indice.containsKey(elemento);
+    }
+
+    /**
+     * Método para eliminar la primera aparición de un elemento, en O(1).
+     *
+     * @param elemento Objeto que se eliminara de la lista.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        NodoIndexado aux = primerNodo(elemento);
+        if (aux == null){
+            return;
+        }
+        if (aux == cabeza){
+            eliminarPrimero();
+        } else if (aux == cola){
+            eliminarUltimo();
+        } else {
+            aux.anterior.siguiente = aux.siguiente;
+            aux.siguiente.anterior = aux.anterior;
+            this.longitud -= 1;
+            quita(aux);
+            this.desordenada = true;
+        }
+    }
+
+    /**
+     * Método que devuelve la posición en la lista que tiene la primera aparición del
+     * <code>elemento</code>. Cuesta O(1), salvo la primera llamada después de eliminar en
+     * medio de la lista, que la numera de nuevo en O(n).
+     *
+     * @param elemento El elemnto del cuál queremos saber su posición.
+     * @return i la posición del elemento en la lista, -1, si no se encuentra en ésta.
+     */
+    @Override
+    public int indiceDe(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        NodoIndexado aux = primerNodo(elemento);
+        if (aux == null){
+            return -1;
+        }
+        if (desordenada){
+            numera();
+        }
+        return (int) (aux.orden - nodo(cabeza).orden);
+    }
+
+    @Override
+    public ListaIndexada<T> copia() {
+        ListaIndexada<T> laCopia = new ListaIndexada<>();
+        for (T elem : this){
+            laCopia.agregarAlFinal(elem);
+        }
+        return laCopia;
+    }
+
+    @Override
+    public ListaIndexada<T> reversa() {
+        ListaIndexada<T> alreves = new ListaIndexada<>();
+        for (T elem : this){
+            alreves.agregar(elem);
+        }
+        return alreves;
+    }
+
+}
@@ -0,0 +1,452 @@
+package com.jorge;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>Lista respaldada por un árbol persistente: un árbol AVL ordenado por posición, en el
+ * que cada nodo guarda el tamaño de su subárbol. Los nodos nunca cambian; cada operación
+ * que modifica la lista copia sólo el camino de la raíz al lugar del cambio, O(log n)
+ * nodos, y cambia la raíz de esta lista por la del árbol nuevo. El resto de los nodos se
+ * comparte con las versiones anteriores.</p>
+ *
+ * <p>Por eso <code>copia()</code> cuesta O(1): la copia es otra lista con la misma raíz, y
+ * lo que se haga después en cualquiera de las dos no afecta a la otra. La raíz es
+ * <code>volatile</code> y cada operación la lee una sola vez, así que otros hilos pueden
+ * leer o recorrer una copia, o incluso la lista original mientras un solo hilo la
+ * modifica, sin candados: siempre ven una versión completa. Varios hilos que modifiquen la
+ * misma lista sí necesitan sincronizarse entre ellos.</p>
+ *
+ * <p><code>getElemento</code>, <code>insertar</code>, <code>eliminarEn</code> y las
+ * operaciones en los extremos cuestan O(log n). Como en {@link Lista},
+ * <code>agregar</code> agrega al inicio y las búsquedas por elemento comparan por
+ * identidad (<code>==</code>); cuestan O(n).</p>
+ * @param <T>
+ */
+public class ListaPersistente<T> implements Listable<T> {
+
+    /* Clase interna para construir la estructura. Sus campos no cambian después de crearla
+    y no guarda referencia a ninguna lista, así que varias listas pueden compartirla. */
+    private static final class Nodo<T> {
+
+        private final T elemento;
+        private final Nodo<T> izquierdo, derecho;
+        private final int tamanio, altura;
+
+        private Nodo(T elemento, Nodo<T> izquierdo, Nodo<T> derecho) {
+            this.elemento = elemento;
+            this.izquierdo = izquierdo;
+            this.derecho = derecho;
+            this.tamanio = tamanio(izquierdo) + tamanio(derecho) + 1;
+            this.altura = Math.max(altura(izquierdo), altura(derecho)) + 1;
+        }
+    }
+
+    /* Clase interna para recorrer en orden la versión que había al crearlo. */
+    private static class IteradorLista<T> implements Iterator<T> {
+
+        private final ArrayDeque<Nodo<T>> pila = new ArrayDeque<>();
+
+        private IteradorLista(Nodo<T> raiz) {
+            baja(raiz);
+        }
+
+        /* Apila la rama izquierda del nodo. */
+        private void baja(Nodo<T> nodo) {
+            for (; nodo != null; nodo = nodo.izquierdo){
+                pila.push(nodo);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pila.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (pila.isEmpty()){
+                throw new NoSuchElementException();
+            }
+            Nodo<T> nodo = pila.pop();
+            baja(nodo.derecho);
+            return nodo.elemento;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /* Raíz de la versión actual de la lista. */
+    private volatile Nodo<T> raiz;
+
+    /**
+     * Constructor por omisión de la clase, no recibe parámetros.
+     * Crea una nueva lista con longitud 0.
+     **/
+    public ListaPersistente() {
+        this.raiz = null;
+    }
+
+    /**
+     * Constructor de la clase que recibe parámetros. Igual que {@link Lista#Lista(Iterable)},
+     * la lista queda con los elementos de la estructura iterable en el orden inverso al del
+     * recorrido. Arma el árbol balanceado directamente, en O(n).
+     * @param iterable
+     * @throws IllegalArgumentException si algún elemento es <code>null</code>.
+     **/
+    public ListaPersistente(Iterable<T> iterable) {
+        ArrayDeque<T> elementos = new ArrayDeque<>();
+        for (T elem : iterable){
+            if (elem == null){
+                throw new IllegalArgumentException();
+            }
+            elementos.push(elem);
+        }
+        this.raiz = construye(elementos, elementos.size());
+    }
+
+    private static int tamanio(Nodo<?> nodo) {
+        return nodo == null ? 0 : nodo.tamanio;
+    }
+
+    private static int altura(Nodo<?> nodo) {
+        return nodo == null ? 0 : nodo.altura;
+    }
+
+    /* Arma un árbol balanceado con los siguientes n elementos de la cola, en orden. */
+    private static <T> Nodo<T> construye(ArrayDeque<T> elementos, int n) {
+        if (n == 0){
+            return null;
+        }
+        Nodo<T> izquierdo = construye(elementos, n / 2);
+        T elemento = elementos.poll();
+        return new Nodo<>(elemento, izquierdo, construye(elementos, n - n / 2 - 1));
+    }
+
+    /* Crea un nodo con los subárboles dados, rotando si sus alturas difieren en 2. */
+    private static <T> Nodo<T> balancea(T elemento, Nodo<T> izquierdo, Nodo<T> derecho) {
+        if (altura(izquierdo) > altura(derecho) + 1){
+            if (altura(izquierdo.izquierdo) >= altura(izquierdo.derecho)){
+                return new Nodo<>(izquierdo.elemento, izquierdo.izquierdo,
+                                  new Nodo<>(elemento, izquierdo.derecho, derecho));
+            }
+            Nodo<T> medio = izquierdo.derecho;
+            return new Nodo<>(medio.elemento,
+                              new Nodo<>(izquierdo.elemento, izquierdo.izquierdo, medio.izquierdo),
+                              new Nodo<>(elemento, medio.derecho, derecho));
+        }
+        if (altura(derecho) > altura(izquierdo) + 1){
+            if (altura(derecho.derecho) >= altura(derecho.izquierdo)){
+                return new Nodo<>(derecho.elemento,
+                                  new Nodo<>(elemento, izquierdo, derecho.izquierdo), derecho.derecho);
+            }
+            Nodo<T> medio = derecho.izquierdo;
+            return new Nodo<>(medio.elemento,
+                              new Nodo<>(elemento, izquierdo, medio.izquierdo),
+                              new Nodo<>(derecho.elemento, medio.derecho, derecho.derecho));
+        }
+        return new Nodo<>(elemento, izquierdo, derecho);
+    }
+
+    private static <T> Nodo<T> inserta(Nodo<T> nodo, int i, T elemento) {
+        if (nodo == null){
+            return new Nodo<>(elemento, null, null);
+        }
+        int izquierdos = tamanio(nodo.izquierdo);
+        if (i <= izquierdos){
+            return balancea(nodo.elemento, inserta(nodo.izquierdo, i, elemento), nodo.derecho);
+        }
+        return balancea(nodo.elemento, nodo.izquierdo, inserta(nodo.derecho, i - izquierdos - 1, elemento));
+    }
+
+    private static <T> Nodo<T> elimina(Nodo<T> nodo, int i) {
+        int izquierdos = tamanio(nodo.izquierdo);
+        if (i < izquierdos){
+            return balancea(nodo.elemento, elimina(nodo.izquierdo, i), nodo.derecho);
+        }
+        if (i > izquierdos){
+            return balancea(nodo.elemento, nodo.izquierdo, elimina(nodo.derecho, i - izquierdos - 1));
+        }
+        if (nodo.izquierdo == null){
+            return nodo.derecho;
+        }
+        if (nodo.derecho == null){
+            return nodo.izquierdo;
+        }
+        return balancea(busca(nodo.derecho, 0).elemento, nodo.izquierdo, elimina(nodo.derecho, 0));
+    }
+
+    /* El nodo en la posición i del árbol. */
+    private static <T> Nodo<T> busca(Nodo<T> nodo, int i) {
+        while (true){
+            int izquierdos = tamanio(nodo.izquierdo);
+            if (i == izquierdos){
+                return nodo;
+            }
+            if (i < izquierdos){
+                nodo = nodo.izquierdo;
+            } else {
+                i -= izquierdos + 1;
+                nodo = nodo.derecho;
+            }
+        }
+    }
+
+    @Override
+    public boolean esVacia() {
+        return raiz == null;
+    }
+
+    @Override
+    public void vaciar() {
+        this.raiz = null;
+    }
+
+    @Override
+    public int getTamanio() {
+        return tamanio(raiz);
+    }
+
+    @Override
+    public T getPrimero() throws NoSuchElementException {
+        Nodo<T> r = raiz;
+        if (r == null){
+            throw new NoSuchElementException();
+        }
+        return busca(r, 0).elemento;
+    }
+
+    /**
+     * Método para obtener el último elemento, en O(log n).
+     */
+    public T getUltimo() throws NoSuchElementException {
+        Nodo<T> r = raiz;
+        if (r == null){
+            throw new NoSuchElementException();
+        }
+        return busca(r, r.tamanio - 1).elemento;
+    }
+
+    /**
+     * Método para agregar un elemento al inicio de la lista, en O(log n).
+     * @param elemento Objeto que se agregará a la lista.
+     */
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        insertar(0, elemento);
+    }
+
+    /**
+     * Método para agregar al final un elemento a la lista, en O(log n).
+     * @param elemento Objeto que se agregará al final de la lista.
+     */
+    public void agregarAlFinal(T elemento) throws IllegalArgumentException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        Nodo<T> r = raiz;
+        this.raiz = inserta(r, tamanio(r), elemento);
+    }
+
+    /**
+     * Método para insertar un elemento en la posición dada, recorriendo una posición a los
+     * que estaban a partir de ella. Cuesta O(log n).
+     * @param i la posición que ocupará el elemento, entre 0 y getTamanio().
+     * @param elemento Objeto que se agregará a la lista.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt; getTamanio().
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    public void insertar(int i, T elemento) throws IndexOutOfBoundsException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        Nodo<T> r = raiz;
+        if (i < 0 || i > tamanio(r)){
+            throw new IndexOutOfBoundsException();
+        }
+        this.raiz = inserta(r, i, elemento);
+    }
+
+    /**
+     * Método para eliminar el elemento en la posición dada, en O(log n).
+     * @param i la posición a eliminar.
+     * @return el elemento eliminado.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    public T eliminarEn(int i) throws IndexOutOfBoundsException {
+        Nodo<T> r = raiz;
+        if (i < 0 || i >= tamanio(r)){
+            throw new IndexOutOfBoundsException();
+        }
+        T aux = busca(r, i).elemento;
+        this.raiz = elimina(r, i);
+        return aux;
+    }
+
+    @Override
+    public void eliminarPrimero() throws NoSuchElementException {
+        Nodo<T> r = raiz;
+        if (r == null){
+            throw new NoSuchElementException();
+        }
+        this.raiz = elimina(r, 0);
+    }
+
+    /**
+     * Método para eliminar el último elemento de la lista, en O(log n).
+     */
+    public void eliminarUltimo() throws NoSuchElementException {
+        Nodo<T> r = raiz;
+        if (r == null){
+            throw new NoSuchElementException();
+        }
+        this.raiz = elimina(r, r.tamanio - 1);
+    }
+
+    /**
+     * Método para verificar si un elemento pertenece a la lista.
+     * @param elemento Objeto que se va a buscar en la lista.
+     * @return <code>true</code> si el elemento esta en el lista y false en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) throws NoSuchElementException {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Método para eliminar la primera aparición de un elemento. Si el elemento no está no
+     * hace nada.
+     * @param elemento Objeto que se eliminara de la lista.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        Nodo<T> r = raiz;
+        int i = indiceDe(r, elemento);
+        if (i != -1){
+            this.raiz = elimina(r, i);
+        }
+    }
+
+    @Override
+    public int indiceDe(T elemento) throws NoSuchElementException {
+        return indiceDe(raiz, elemento);
+    }
+
+    private int indiceDe(Nodo<T> r, T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        int i = 0;
+        for (Iterator<T> it = new IteradorLista<>(r); it.hasNext(); i++){
+            if (it.next() == elemento){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Método que nos devuelve el elemento que esta en la posición i, en O(log n).
+     * @param i La posición cuyo elemento deseamos conocer.
+     * @return el elemento en esa posición.
+     * @throws IndexOutOfBoundsException Si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    @Override
+    public T getElemento(int i) throws IndexOutOfBoundsException {
+        Nodo<T> r = raiz;
+        if (i < 0 || i >= tamanio(r)){
+            throw new IndexOutOfBoundsException();
+        }
+        return busca(r, i).elemento;
+    }
+
+    @Override
+    public ListaPersistente<T> reversa() {
+        ArrayDeque<T> alreves = new ArrayDeque<>();
+        for (T elem : this){
+            alreves.push(elem);
+        }
+        ListaPersistente<T> lista = new ListaPersistente<>();
+        lista.raiz = construye(alreves, alreves.size());
+        return lista;
+    }
+
+    /**
+     * Método que devuelve una copia exacta de la lista en O(1): la copia comparte todos
+     * sus nodos con esta lista, y los cambios posteriores en cualquiera de las dos no se
+     * ven en la otra.
+     * @return la copia de la lista.
+     */
+    @Override
+    public ListaPersistente<T> copia() {
+        ListaPersistente<T> laCopia = new ListaPersistente<>();
+        laCopia.raiz = raiz;
+        return laCopia;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        Iterator<T> it = iterator();
+        StringBuilder cad = new StringBuilder("[").append(it.next());
+        while (it.hasNext()) {
+            cad.append(", ").append(it.next());
+        }
+        return cad.append("]").toString();
+    }
+
+    /**
+     * Método que devuelve un iterador sobre la versión actual de la lista. Los cambios
+     * posteriores a la lista no afectan al iterador.
+     *
+     * @return java.util.Iterador -- iterador sobre la lista
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradorLista<>(raiz);
+    }
+
+    /**
+     * Método que nos dice si una lista es igual que otra: si es un {@link Listable} con
+     * los mismos elementos en el mismo orden.
+     * @param o objeto a comparar con la lista.
+     * @return <code>true</code> si son iguales, <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Listable)){
+            return false;
+        }
+        Nodo<T> r = raiz;
+        Listable<?> lista = (Listable<?>) o;
+        if (lista.getTamanio() != tamanio(r)){
+            return false;
+        }
+        Iterator<?> iteraux = lista.iterator();
+        for (Iterator<T> it = new IteradorLista<>(r); it.hasNext();){
+            if (!it.next().equals(iteraux.next())){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals, calculado como el de <code>java.util.List</code>
+     * sobre la versión actual de la lista.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (Iterator<T> it = new IteradorLista<>(raiz); it.hasNext();){
+            codigo = 31 * codigo + it.next().hashCode();
+        }
+        return codigo;
+    }
+
+}
@@ -0,0 +1,405 @@
+package com.jorge;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Lista de saltos indexable. Los elementos están ligados en orden en el nivel 0, como
+ * en una lista ligada, y cada nodo participa además en un número aleatorio de niveles
+ * superiores, cada uno con la mitad de nodos que el anterior en promedio. Cada liga guarda
+ * su ancho, el número de posiciones que salta, así que para llegar a la posición
+ * <code>i</code> se baja desde el nivel más alto sumando anchos, y
+ * <code>getElemento</code>, <code>insertar</code> y <code>eliminarEn</code> cuestan
+ * O(log n) esperado.</p>
+ *
+ * <p>Se recorre en el mismo orden que {@link Lista} y, como ella, <code>agregar</code>
+ * agrega al inicio. Es igual a cualquier {@link Listable} con los mismos elementos en el
+ * mismo orden, y las búsquedas por elemento comparan por identidad (<code>==</code>), como
+ * en <code>Lista</code>, y cuestan O(n).</p>
+ * @param <T>
+ */
+public class ListaSaltos<T> implements Listable<T> {
+
+    /**
+     * Número máximo de niveles de un nodo.
+     **/
+    public static final int MAXIMO_NIVEL = 32;
+
+    /* Clase interna para construir la estructura. */
+    private class Nodo {
+
+        private final T elemento;
+        /* Siguiente nodo en cada nivel, y cuántas posiciones hay hasta él. */
+        private final Nodo[] siguientes;
+        private final int[] anchos;
+
+        @SuppressWarnings("unchecked")
+        private Nodo(T elemento, int nivel) {
+            this.elemento = elemento;
+            this.siguientes = (Nodo[]) new ListaSaltos<?>.Nodo[nivel];
+            this.anchos = new int[nivel];
+        }
+    }
+
+    /* Clase interna para recorrer la lista en orden. */
+    private class IteradorLista implements Iterator<T> {
+
+        private Nodo siguiente = cabeza.siguientes[0];
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != null;
+        }
+
+        @Override
+        public T next() {
+            if (siguiente == null){
+                throw new NoSuchElementException();
+            }
+            T aux = siguiente.elemento;
+            siguiente = siguiente.siguientes[0];
+            return aux;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /* Atributos de la lista. La cabeza no guarda elemento y está en la posición 0; los
+    elementos ocupan las posiciones 1 a longitud. */
+    private final Nodo cabeza;
+    private int longitud;
+    /* Número de niveles en uso: ningún nodo tiene más. */
+    private int niveles;
+
+    /**
+     * Constructor por omisión de la clase, no recibe parámetros.
+     * Crea una nueva lista con longitud 0.
+     **/
+    public ListaSaltos() {
+        this.cabeza = new Nodo(null, MAXIMO_NIVEL);
+        this.longitud = 0;
+        this.niveles = 1;
+    }
+
+    /**
+     * Constructor de la clase que recibe parámetros. Igual que {@link Lista#Lista(Iterable)},
+     * agrega cada elemento de la estructura iterable al inicio, así que la lista queda en el
+     * orden inverso al del recorrido.
+     * @param iterable
+     **/
+    public ListaSaltos(Iterable<T> iterable) {
+        this();
+        for (T elem : iterable){
+            agregar(elem);
+        }
+    }
+
+    /* Nivel de un nodo nuevo: 1 más el número de volados seguidos que salen águila. */
+    private static int nivelAleatorio() {
+        long volados = ThreadLocalRandom.current().nextLong();
+        return Math.min(MAXIMO_NIVEL, 1 + Long.numberOfTrailingZeros(volados));
+    }
+
+    /**
+     * Llena los predecesores, en cada nivel en uso, de la posición dada más uno: el
+     * último nodo en cada nivel cuya posición no pasa de <code>posicion</code>.
+     */
+    private void predecesores(int posicion, Nodo[] anteriores, int[] posiciones) {
+        Nodo aux = cabeza;
+        int pos = 0;
+        for (int k = niveles - 1; k >= 0; k--){
+            while (aux.siguientes[k] != null && pos + aux.anchos[k] <= posicion){
+                pos += aux.anchos[k];
+                aux = aux.siguientes[k];
+            }
+            anteriores[k] = aux;
+            posiciones[k] = pos;
+        }
+    }
+
+    /* El nodo en la posición dada, entre 1 y longitud. */
+    private Nodo nodo(int posicion) {
+        Nodo aux = cabeza;
+        int pos = 0;
+        for (int k = niveles - 1; k >= 0; k--){
+            while (aux.siguientes[k] != null && pos + aux.anchos[k] <= posicion){
+                pos += aux.anchos[k];
+                aux = aux.siguientes[k];
+            }
+        }
+        return aux;
+    }
+
+    @Override
+    public boolean esVacia() {
+        return longitud == 0;
+    }
+
+    @Override
+    public void vaciar() {
+        for (int k = 0; k < niveles; k++){
+            cabeza.siguientes[k] = null;
+            cabeza.anchos[k] = 0;
+        }
+        this.longitud = 0;
+        this.niveles = 1;
+    }
+
+    @Override
+    public int getTamanio() {
+        return longitud;
+    }
+
+    @Override
+    public T getPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return cabeza.siguientes[0].elemento;
+    }
+
+    /**
+     * Método para obtener el último elemento, en O(log n).
+     */
+    public T getUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        return nodo(longitud).elemento;
+    }
+
+    /**
+     * Método para agregar un elemento al inicio de la lista.
+     * @param elemento Objeto que se agregará a la lista.
+     */
+    @Override
+    public void agregar(T elemento) throws IllegalArgumentException {
+        insertar(0, elemento);
+    }
+
+    /**
+     * Método para agregar al final un elemento a la lista, en O(log n).
+     * @param elemento Objeto que se agregará al final de la lista.
+     */
+    public void agregarAlFinal(T elemento) throws IllegalArgumentException {
+        insertar(longitud, elemento);
+    }
+
+    /**
+     * Método para insertar un elemento en la posición dada, recorriendo una posición a los
+     * que estaban a partir de ella. Cuesta O(log n) esperado.
+     * @param i la posición que ocupará el elemento, entre 0 y getTamanio().
+     * @param elemento Objeto que se agregará a la lista.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt; getTamanio().
+     * @throws IllegalArgumentException si el elemento es <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public void insertar(int i, T elemento) throws IndexOutOfBoundsException {
+        if (elemento == null){
+            throw new IllegalArgumentException();
+        }
+        if (i < 0 || i > longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        Nodo nuevo = new Nodo(elemento, nivelAleatorio());
+        int nivel = nuevo.siguientes.length;
+        if (nivel > niveles){
+            this.niveles = nivel;
+        }
+        Nodo[] anteriores = (Nodo[]) new ListaSaltos<?>.Nodo[niveles];
+        int[] posiciones = new int[niveles];
+        predecesores(i, anteriores, posiciones);
+        for (int k = 0; k < niveles; k++){
+            Nodo anterior = anteriores[k];
+            if (k < nivel){
+                nuevo.siguientes[k] = anterior.siguientes[k];
+                if (nuevo.siguientes[k] != null){
+                    nuevo.anchos[k] = posiciones[k] + anterior.anchos[k] - i;
+                }
+                anterior.siguientes[k] = nuevo;
+                anterior.anchos[k] = i + 1 - posiciones[k];
+            } else if (anterior.siguientes[k] != null){
+                anterior.anchos[k] += 1;
+            }
+        }
+        this.longitud += 1;
+    }
+
+    /**
+     * Método para eliminar el elemento en la posición dada, en O(log n) esperado.
+     * @param i la posición a eliminar.
+     * @return el elemento eliminado.
+     * @throws IndexOutOfBoundsException si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    @SuppressWarnings("unchecked")
+    public T eliminarEn(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        Nodo[] anteriores = (Nodo[]) new ListaSaltos<?>.Nodo[niveles];
+        int[] posiciones = new int[niveles];
+        predecesores(i, anteriores, posiciones);
+        Nodo aux = anteriores[0].siguientes[0];
+        for (int k = 0; k < niveles; k++){
+            Nodo anterior = anteriores[k];
+            if (k < aux.siguientes.length){
+                anterior.siguientes[k] = aux.siguientes[k];
+                anterior.anchos[k] = aux.siguientes[k] == null ? 0 : anterior.anchos[k] + aux.anchos[k] - 1;
+            } else if (anterior.siguientes[k] != null){
+                anterior.anchos[k] -= 1;
+            }
+        }
+        while (niveles > 1 && cabeza.siguientes[niveles - 1] == null){
+            this.niveles -= 1;
+        }
+        this.longitud -= 1;
+        return aux.elemento;
+    }
+
+    @Override
+    public void eliminarPrimero() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        eliminarEn(0);
+    }
+
+    /**
+     * Método para eliminar el último elemento de la lista, en O(log n).
+     */
+    public void eliminarUltimo() throws NoSuchElementException {
+        if (longitud == 0){
+            throw new NoSuchElementException();
+        }
+        eliminarEn(longitud - 1);
+    }
+
+    /**
+     * Método para verificar si un elemento pertenece a la lista.
+     * @param elemento Objeto que se va a buscar en la lista.
+     * @return <code>true</code> si el elemento esta en el lista y false en otro caso.
+     */
+    @Override
+    public boolean contiene(T elemento) throws NoSuchElementException {
+        return indiceDe(elemento) != -1;
+    }
+
+    /**
+     * Método para eliminar la primera aparición de un elemento. Si el elemento no está no
+     * hace nada.
+     * @param elemento Objeto que se eliminara de la lista.
+     */
+    @Override
+    public void eliminar(T elemento) throws NoSuchElementException {
+        int i = indiceDe(elemento);
+        if (i != -1){
+            eliminarEn(i);
+        }
+    }
+
+    @Override
+    public int indiceDe(T elemento) throws NoSuchElementException {
+        if (elemento == null){
+            throw new NoSuchElementException();
+        }
+        int i = 0;
+        for (Nodo aux = cabeza.siguientes[0]; aux != null; aux = aux.siguientes[0]){
+            if (aux.elemento == elemento){
+                return i;
+            }
+            i += 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Método que nos devuelve el elemento que esta en la posición i, en O(log n) esperado.
+     * @param i La posición cuyo elemento deseamos conocer.
+     * @return el elemento en esa posición.
+     * @throws IndexOutOfBoundsException Si el índice es &lt; 0 o &gt;= getTamanio().
+     */
+    @Override
+    public T getElemento(int i) throws IndexOutOfBoundsException {
+        if (i < 0 || i >= longitud){
+            throw new IndexOutOfBoundsException();
+        }
+        return nodo(i + 1).elemento;
+    }
+
+    @Override
+    public ListaSaltos<T> reversa() {
+        ListaSaltos<T> alreves = new ListaSaltos<>();
+        for (T elem : this){
+            alreves.agregar(elem);
+        }
+        return alreves;
+    }
+
+    @Override
+    public ListaSaltos<T> copia() {
+        ListaSaltos<T> laCopia = new ListaSaltos<>();
+        for (T elem : this){
+            laCopia.agregarAlFinal(elem);
+        }
+        return laCopia;
+    }
+
+    @Override
+    public String toString() {
+        if (esVacia()) {
+            return "[]";
+        }
+        Iterator<T> it = iterator();
+        StringBuilder cad = new StringBuilder("[").append(it.next());
+        while (it.hasNext()) {
+            cad.append(", ").append(it.next());
+        }
+        return cad.append("]").toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new IteradorLista();
+    }
+
+    /**
+     * Método que nos dice si una lista es igual que otra: si es un {@link Listable} con
+     * los mismos elementos en el mismo orden.
+     * @param o objeto a comparar con la lista.
+     * @return <code>true</code> si son iguales, <code>false</code> en otro caso.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Listable)){
+            return false;
+        }
+        Listable<?> lista = (Listable<?>) o;
+        if (lista.getTamanio() != longitud){
+            return false;
+        }
+        Iterator<?> iteraux = lista.iterator();
+        for (T elem : this){
+            if (!elem.equals(iteraux.next())){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Código hash consistente con equals, calculado como el de <code>java.util.List</code>
+     * para que dos listas iguales de distintas clases den el mismo código.
+     */
+    @Override
+    public int hashCode() {
+        int codigo = 1;
+        for (T elem : this){
+            codigo = 31 * codigo + elem.hashCode();
+        }
+        return codigo;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.jorge;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 public class PruebasLista{
 
@@ -679,6 +680,275 @@ public class PruebasLista{
         }
     }
 
+    /**
+     *
+     * @return
+     */
+    public static double pruebaListaArreglo(){
+
+        System.out.println("************Prueba lista con arreglo*************");
+        try{
+            double calificacion = 0;
+            ListaArreglo<String> lista = new ListaArreglo<>(2);
+            lista.agregarAlFinal("o");
+            lista.agregarAlFinal("l");
+            lista.agregar("h");
+            lista.agregarAlFinal("a");
+            lista.agregarAlFinal("s");
+            System.out.println("Lista:       " + lista);
+            System.out.println("Objetivo:    " + "[h, o, l, a, s] l 3");
+            System.out.println("Resultado:   " + lista + " " + lista.getElemento(2) + " " + lista.indiceDe("a"));
+            calificacion += (lista.toString().equals("[h, o, l, a, s]") && lista.getElemento(2).equals("l")
+                    && lista.indiceDe("a") == 3 && lista.indiceDe(new String("a")) == -1)?1:0;
+            lista.eliminarPrimero();
+            lista.eliminarUltimo();
+            lista.agregar("s");
+            lista.eliminar("l");
+            Lista<String> otra = new Lista<>();
+            otra.agregarAlFinal("s");
+            otra.agregarAlFinal("o");
+            otra.agregarAlFinal("a");
+            System.out.println("Objetivo:    " + "[s, o, a] [a, o, s]");
+            System.out.println("Resultado:   " + lista + " " + lista.reversa());
+            calificacion += (lista.equals(otra) && lista.reversa().toString().equals("[a, o, s]")
+                    && lista.copia().equals(lista) && lista.getTamanio() == 3 && !lista.contiene("l")
+                    && lista.copia().hashCode() == lista.hashCode()
+                    && otra.equals(lista) && otra.hashCode() == lista.hashCode()
+                    && new ListaArreglo<>(otra).equals(new Lista<>((Iterable<String>) otra)))?1:0;
+
+            calificacion = (calificacion == 2)?1:0;
+
+            if (calificacion == 1) {
+                System.out.println("----Prueba existosa-----");
+            }else{
+                System.out.println("++++Prueba fallida++++");
+            }
+            System.out.println("************Prueba lista con arreglo*************");
+            return calificacion;
+
+        }catch(Exception e){
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    public static double pruebaListaIndexada(){
+
+        System.out.println("************Prueba lista indexada*************");
+        try{
+            double calificacion = 0;
+            String h = "h", o = "o", l = "l", a = "a";
+            ListaIndexada<String> lista = new ListaIndexada<>();
+            lista.agregarAlFinal(o);
+            lista.agregarAlFinal(l);
+            lista.agregar(h);
+            lista.agregarAlFinal(a);
+            lista.agregarAlFinal(l);
+            System.out.println("Lista:       " + lista);
+            System.out.println("Objetivo:    " + "[h, o, l, a, l] 2 3 true");
+            System.out.println("Resultado:   " + lista + " " + lista.indiceDe(l) + " " + lista.indiceDe(a)
+                    + " " + lista.contiene(l));
+            calificacion += (lista.toString().equals("[h, o, l, a, l]") && lista.indiceDe(l) == 2
+                    && lista.indiceDe(a) == 3 && lista.contiene(l))?1:0;
+            lista.eliminar(l);
+            lista.eliminar(o);
+            lista.eliminarPrimero();
+            lista.agregar(o);
+            Lista<String> otra = new Lista<>();
+            otra.agregarAlFinal(o);
+            otra.agregarAlFinal(a);
+            otra.agregarAlFinal(l);
+            System.out.println("Objetivo:    " + "[o, a, l] 2 1 -1");
+            System.out.println("Resultado:   " + lista + " " + lista.indiceDe(l) + " " + lista.indiceDe(a)
+                    + " " + lista.indiceDe(h));
+            calificacion += (lista.equals(otra) && lista.indiceDe(l) == 2 && lista.indiceDe(a) == 1
+                    && lista.indiceDe(h) == -1 && !lista.contiene(h) && lista.getTamanio() == 3
+                    && lista.reversa().indiceDe(o) == 2 && lista.copia().equals(lista))?1:0;
+            lista.vaciar();
+            calificacion += (!lista.contiene(a) && lista.indiceDe(o) == -1)?1:0;
+
+            calificacion = (calificacion == 3)?1:0;
+
+            if (calificacion == 1) {
+                System.out.println("----Prueba existosa-----");
+            }else{
+                System.out.println("++++Prueba fallida++++");
+            }
+            System.out.println("************Prueba lista indexada*************");
+            return calificacion;
+
+        }catch(Exception e){
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    public static double pruebaListaDesenrollada(){
+
+        System.out.println("************Prueba lista desenrollada*************");
+        try{
+            double calificacion = 0;
+            ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(4);
+            for (int i = 5; i < 10; i++){
+                lista.agregarAlFinal(i);
+            }
+            for (int i = 4; i >= 0; i--){
+                lista.agregar(i);
+            }
+            System.out.println("Lista:       " + lista);
+            System.out.println("Objetivo:    " + "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9] 7 9");
+            System.out.println("Resultado:   " + lista + " " + lista.getElemento(7) + " " + lista.getUltimo());
+            calificacion += (lista.toString().equals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]") && lista.getElemento(7) == 7
+                    && lista.getUltimo() == 9 && lista.indiceDe(6) == 6)?1:0;
+            lista.eliminar(5);
+            lista.eliminar(6);
+            lista.eliminarEn(4);
+            lista.eliminarPrimero();
+            lista.eliminarUltimo();
+            ListaArreglo<Integer> otra = new ListaArreglo<>();
+            for (int i : new int[]{1, 2, 3, 7, 8}){
+                otra.agregarAlFinal(i);
+            }
+            System.out.println("Objetivo:    " + "[1, 2, 3, 7, 8] [8, 7, 3, 2, 1]");
+            System.out.println("Resultado:   " + lista + " " + lista.reversa());
+            calificacion += (lista.equals(otra) && lista.reversa().toString().equals("[8, 7, 3, 2, 1]")
+                    && lista.copia().equals(lista) && lista.getTamanio() == 5 && !lista.contiene(5)
+                    && lista.indiceDe(7) == 3 && lista.hashCode() == otra.hashCode() && otra.equals(lista)
+                    && new ListaDesenrollada<>(otra).equals(new Lista<>((Iterable<Integer>) otra)))?1:0;
+
+            calificacion = (calificacion == 2)?1:0;
+
+            if (calificacion == 1) {
+                System.out.println("----Prueba existosa-----");
+            }else{
+                System.out.println("++++Prueba fallida++++");
+            }
+            System.out.println("************Prueba lista desenrollada*************");
+            return calificacion;
+
+        }catch(Exception e){
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    public static double pruebaListaSaltos(){
+
+        System.out.println("************Prueba lista de saltos*************");
+        try{
+            double calificacion = 0;
+            ListaSaltos<Integer> lista = new ListaSaltos<>();
+            for (int i = 0; i < 100; i += 2){
+                lista.agregarAlFinal(i);
+            }
+            for (int i = 1; i < 100; i += 2){
+                lista.insertar(i, i);
+            }
+            System.out.println("Objetivo:    " + "100 0 37 99 37");
+            System.out.println("Resultado:   " + lista.getTamanio() + " " + lista.getPrimero() + " "
+                    + lista.getElemento(37) + " " + lista.getUltimo() + " " + lista.indiceDe(37));
+            boolean enOrden = true;
+            int j = 0;
+            for (int elem : lista){
+                enOrden = enOrden && elem == j++;
+            }
+            calificacion += (enOrden && lista.getTamanio() == 100 && lista.getElemento(37) == 37
+                    && lista.getUltimo() == 99 && lista.indiceDe(37) == 37)?1:0;
+            for (int i = 0; i < 90; i++){
+                lista.eliminarEn(i % lista.getTamanio());
+            }
+            lista.agregar(-1);
+            System.out.println("Objetivo:    " + "[-1, 11, 27, 39, 51, 57, 59, 71, 87, 93, 99]");
+            System.out.println("Resultado:   " + lista);
+            Lista<Integer> otra = new Lista<>();
+            for (int elem : lista){
+                otra.agregarAlFinal(elem);
+            }
+            calificacion += (lista.toString().equals("[-1, 11, 27, 39, 51, 57, 59, 71, 87, 93, 99]")
+                    && lista.equals(otra) && lista.copia().equals(lista) && lista.reversa().getElemento(10) == -1
+                    && lista.getElemento(6) == 59
+                    && lista.hashCode() == new ListaDesenrollada<>(lista.reversa()).hashCode()
+                    && otra.equals(lista) && otra.hashCode() == lista.hashCode()
+                    && new ListaSaltos<>(otra).equals(new Lista<>((Iterable<Integer>) otra)))?1:0;
+
+            calificacion = (calificacion == 2)?1:0;
+
+            if (calificacion == 1) {
+                System.out.println("----Prueba existosa-----");
+            }else{
+                System.out.println("++++Prueba fallida++++");
+            }
+            System.out.println("************Prueba lista de saltos*************");
+            return calificacion;
+
+        }catch(Exception e){
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
+    public static double pruebaListaPersistente(){
+
+        System.out.println("************Prueba lista persistente*************");
+        try{
+            double calificacion = 0;
+            ListaPersistente<Integer> lista = new ListaPersistente<>();
+            for (int i = 1; i < 6; i++){
+                lista.agregarAlFinal(i);
+            }
+            lista.agregar(0);
+            ListaPersistente<Integer> copia = lista.copia();
+            Iterator<Integer> it = lista.iterator();
+            lista.eliminarEn(3);
+            lista.insertar(1, 9);
+            lista.eliminarUltimo();
+            System.out.println("Objetivo:    " + "[0, 9, 1, 2, 4] [0, 1, 2, 3, 4, 5] 9");
+            System.out.println("Resultado:   " + lista + " " + copia + " " + lista.getElemento(1));
+            int suma = 0;
+            while (it.hasNext()){
+                suma += it.next();
+            }
+            calificacion += (lista.toString().equals("[0, 9, 1, 2, 4]") && copia.toString().equals("[0, 1, 2, 3, 4, 5]")
+                    && lista.getElemento(1) == 9 && suma == 15)?1:0;
+            copia.eliminar(3);
+            copia.eliminarPrimero();
+            ListaPersistente<Integer> otra = new ListaPersistente<>(copia);
+            System.out.println("Objetivo:    " + "[1, 2, 4, 5] [5, 4, 2, 1]");
+            System.out.println("Resultado:   " + copia + " " + otra);
+            calificacion += (copia.toString().equals("[1, 2, 4, 5]") && otra.toString().equals("[5, 4, 2, 1]")
+                    && !copia.equals(lista) && copia.equals(otra.reversa()) && otra.getUltimo() == 1
+                    && otra.indiceDe(2) == 2 && !copia.contiene(3) && lista.contiene(9)
+                    && copia.hashCode() == otra.reversa().hashCode()
+                    && copia.hashCode() == new ListaSaltos<>(otra).hashCode()
+                    && new ListaSaltos<>(otra).equals(copia) && otra.reversa().equals(copia)
+                    && otra.equals(new Lista<>((Iterable<Integer>) copia)))?1:0;
+
+            calificacion = (calificacion == 2)?1:0;
+
+            if (calificacion == 1) {
+                System.out.println("----Prueba existosa-----");
+            }else{
+                System.out.println("++++Prueba fallida++++");
+            }
+            System.out.println("************Prueba lista persistente*************");
+            return calificacion;
+
+        }catch(Exception e){
+            System.out.println("--------------------Error--------------------");
+            System.out.println(e);
+            System.out.println("--------------------Error--------------------");
+            return 0;
+        }
+    }
+
     public static void main(String[] args) {
 
         double calificacion = 0;
@@ -699,10 +969,15 @@ public class PruebasLista{
         calificacion += pruebaReversa();
         calificacion += pruebaCopia();
         calificacion += pruebaEquals();
+        calificacion += pruebaListaArreglo();
+        calificacion += pruebaListaIndexada();
+        calificacion += pruebaListaDesenrollada();
+        calificacion += pruebaListaSaltos();
+        calificacion += pruebaListaPersistente();
 
 
 
-        System.out.println("Pruebas pasadas: " + calificacion + " de 17");
+        System.out.println("Pruebas pasadas: " + calificacion + " de 22");
 
     }
 }
\ No newline at end of file